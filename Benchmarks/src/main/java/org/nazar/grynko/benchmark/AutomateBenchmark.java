@@ -0,0 +1,80 @@
+package org.nazar.grynko.benchmark;
+
+import org.nazar.grynko.TokenType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Automate.getType throughput over a fixed set of words, reported per classified word
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutomateBenchmark {
+
+    private static final String LINE = "let value = result as? Int ?? nil where index in count";
+    private static final int LINE_WORDS = 12;
+
+    private String[] keywords;
+    private String[] identifiers;
+    private String[] operators;
+    private int[] lineStarts;
+    private int[] lineEnds;
+
+    @Setup
+    public void setUp() {
+        keywords = Fixtures.sample(Fixtures.KEYWORDS, Fixtures.KEYWORD_SAMPLE, "keywords.txt");
+        operators = Fixtures.sample(Fixtures.OPERATORS, Fixtures.OPERATOR_SAMPLE, "operators.txt");
+        identifiers = Fixtures.sample(Fixtures.IDENTIFIERS, Fixtures.IDENTIFIER_COUNT, "IDENTIFIERS");
+
+        var words = LINE.split(" ");
+        if (words.length != LINE_WORDS) {
+            throw new IllegalStateException("LINE has " + words.length + " words, ranges counts " + LINE_WORDS);
+        }
+        lineStarts = new int[words.length];
+        lineEnds = new int[words.length];
+        for (int i = 0, from = 0; i < words.length; i++) {
+            lineStarts[i] = from;
+            lineEnds[i] = from + words[i].length();
+            from = lineEnds[i] + 1;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Fixtures.KEYWORD_SAMPLE)
+    public void keywords(Blackhole blackhole) {
+        for (var word: keywords) {
+            blackhole.consume(Fixtures.KEYWORDS_AUTOMATE.getType(word));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Fixtures.IDENTIFIER_COUNT)
+    public void identifiers(Blackhole blackhole) {
+        for (var word: identifiers) {
+            blackhole.consume(Fixtures.KEYWORDS_AUTOMATE.getType(word));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Fixtures.OPERATOR_SAMPLE)
+    public void operators(Blackhole blackhole) {
+        for (var word: operators) {
+            blackhole.consume(Fixtures.OPERATORS_AUTOMATE.getType(word));
+        }
+    }
+
+    // Classifies ranges of a line without creating substrings
+    @Benchmark
+    @OperationsPerInvocation(LINE_WORDS)
+    public void ranges(Blackhole blackhole) {
+        for (int i = 0; i < lineStarts.length; i++) {
+            TokenType type = Fixtures.KEYWORDS_AUTOMATE.getType(LINE, lineStarts[i], lineEnds[i]);
+            blackhole.consume(type);
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.nazar.grynko.benchmark;
+
+import org.nazar.grynko.CharScanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// The char scanners over a buffer of runs of the given length: runs of spaces for skip, string bodies ended by a quote
+// for indexOf. SEQUENCE goes through charAt like the loops the lexer had before, ARRAY is the same loop over the
+// char[] and VECTOR compares a vector of chars at a time, it needs the Lexer installed with -Pvector. The chars counter
+// reports chars/s.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class CharScannerBenchmark {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public enum Kind {
+        SEQUENCE,
+        ARRAY,
+        VECTOR
+    }
+
+    @Param({"SEQUENCE", "ARRAY", "VECTOR"})
+    private Kind kind;
+
+    @Param({"4", "16", "64", "1024"})
+    private int run;
+
+    private CharScanner spaces;
+    private CharScanner strings;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        public long chars;
+
+    }
+
+    @Setup
+    public void setUp() {
+        spaces = scanner(runs(' ', 'x'));
+        strings = scanner(runs('a', '"'));
+    }
+
+    @Benchmark
+    public int skip(Counters counters) {
+        var count = 0;
+        for (int pos = 0; pos < BUFFER_SIZE; pos++) {
+            pos = spaces.skip(pos, BUFFER_SIZE, ' ');
+            count++;
+        }
+
+        counters.chars += BUFFER_SIZE;
+        return count;
+    }
+
+    @Benchmark
+    public int indexOf(Counters counters) {
+        var count = 0;
+        for (int pos = 0; pos < BUFFER_SIZE; pos++) {
+            pos = strings.indexOf(pos, BUFFER_SIZE, '"', '\\');
+            count++;
+        }
+
+        counters.chars += BUFFER_SIZE;
+        return count;
+    }
+
+    private char[] runs(char filler, char end) {
+        var chars = new char[BUFFER_SIZE];
+        for (int i = 0; i < BUFFER_SIZE; i++) {
+            chars[i] = i % (run + 1) == run ? end : filler;
+        }
+        return chars;
+    }
+
+    private CharScanner scanner(char[] chars) {
+        switch (kind) {
+            case SEQUENCE:
+                return CharScanner.of(new String(chars));
+            case ARRAY:
+                return CharScanner.scalar(chars);
+            default:
+                return CharScanner.vector(chars);
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package org.nazar.grynko.benchmark;
+
+import org.nazar.grynko.lexer.LexerConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Startup cost of a config: compiling the word lists against reading a saved image
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigBenchmark {
+
+    private byte[] image;
+
+    @Setup
+    public void setUp() throws IOException {
+        var out = new ByteArrayOutputStream();
+        Fixtures.CONFIG.save(out);
+        image = out.toByteArray();
+    }
+
+    @Benchmark
+    public LexerConfig build() {
+        return LexerConfig.build(Fixtures.OPERATORS, Fixtures.KEYWORDS, Fixtures.PUNCTUATIONS);
+    }
+
+    @Benchmark
+    public LexerConfig load() throws IOException {
+        return LexerConfig.load(new ByteArrayInputStream(image));
+    }
+
+}
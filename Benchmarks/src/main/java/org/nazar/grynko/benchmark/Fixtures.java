@@ -0,0 +1,67 @@
+package org.nazar.grynko.benchmark;
+
+import org.nazar.grynko.automate.Automate;
+import org.nazar.grynko.lexer.Lexer;
+import org.nazar.grynko.lexer.LexerConfig;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// Word lists and the compiled config shared by the benchmarks, loaded from the Lexer resources
+final class Fixtures {
+
+    static final List<String> OPERATORS = readWords("/operators.txt");
+    static final List<String> KEYWORDS = readWords("/keywords.txt");
+    static final List<String> PUNCTUATIONS = readWords("/punctuations.txt");
+
+    // @OperationsPerInvocation needs constants, so the benchmarks classify this many words of each list
+    static final int OPERATOR_SAMPLE = 48;
+    static final int KEYWORD_SAMPLE = 64;
+
+    // Not keywords, some share a prefix with one
+    static final int IDENTIFIER_COUNT = 8;
+    static final List<String> IDENTIFIERS = List.of(
+            "value", "firstNumber", "secondClosure", "someFunction", "letter", "classic", "returned", "i");
+
+    static final LexerConfig CONFIG = LexerConfig.build(OPERATORS, KEYWORDS, PUNCTUATIONS);
+
+    static final Automate OPERATORS_AUTOMATE = CONFIG.operators();
+    static final Automate KEYWORDS_AUTOMATE = CONFIG.keywords();
+
+    private Fixtures() {
+    }
+
+    static Lexer newLexer() {
+        return new Lexer(CONFIG);
+    }
+
+    // The first count words, called from a @Setup so a list that got too short fails the benchmark with the message
+    static String[] sample(List<String> words, int count, String name) {
+        if (words.size() < count) {
+            throw new IllegalStateException(name + " has " + words.size() + " words, the benchmarks classify " + count);
+        }
+        return words.subList(0, count).toArray(String[]::new);
+    }
+
+    private static List<String> readWords(String resource) {
+        var stream = Objects.requireNonNull(Fixtures.class.getResourceAsStream(resource), resource);
+
+        List<String> words;
+        try (var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            words = reader.lines()
+                    .map(String::trim)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return words;
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.nazar.grynko.benchmark;
+
+import org.nazar.grynko.automate.KeywordHash;
+import org.nazar.grynko.automate.TokenRecognizer;
+import org.nazar.grynko.lexer.Lexer;
+import org.nazar.grynko.lexer.LexerConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Keywords automate against the keyword perfect hash: single words per classified word, and a whole
+// identifier-heavy source per operation
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordRecognizerBenchmark {
+
+    private static final int SOURCE_SIZE = 64 * 1024;
+
+    @Param({"trie", "hash"})
+    private String recognizer;
+
+    private TokenRecognizer keywordRecognizer;
+    private LexerConfig config;
+    private String[] keywords;
+    private String[] identifiers;
+    private String source;
+
+    @Setup
+    public void setUp() {
+        var hash = recognizer.equals("hash");
+        keywordRecognizer = hash ? KeywordHash.build(Fixtures.KEYWORDS_AUTOMATE) : Fixtures.KEYWORDS_AUTOMATE;
+        config = hash ? Fixtures.CONFIG.withKeywordHash() : Fixtures.CONFIG;
+
+        keywords = Fixtures.sample(Fixtures.KEYWORDS, Fixtures.KEYWORD_SAMPLE, "keywords.txt");
+        identifiers = Fixtures.sample(Fixtures.IDENTIFIERS, Fixtures.IDENTIFIER_COUNT, "IDENTIFIERS");
+        source = SwiftSource.generate(SwiftSource.Shape.IDENTIFIERS, SOURCE_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Fixtures.KEYWORD_SAMPLE)
+    public void keywords(Blackhole blackhole) {
+        for (var word: keywords) {
+            blackhole.consume(keywordRecognizer.getType(word));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Fixtures.IDENTIFIER_COUNT)
+    public void identifiers(Blackhole blackhole) {
+        for (var word: identifiers) {
+            blackhole.consume(keywordRecognizer.getType(word));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int lex() {
+        var lexer = new Lexer(config);
+        lexer.parseSource(source);
+        return lexer.getTokenStream().size();
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.nazar.grynko.benchmark;
+
+import org.nazar.grynko.lexer.Lexer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Request-sized sources: building the automata per request, a new lexer over a shared config, a reset lexer
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerReuseBenchmark {
+
+    @Param({"256", "4096"})
+    private int size;
+
+    private String source;
+    private Lexer lexer;
+
+    @Setup
+    public void setUp() {
+        source = SwiftSource.generate(SwiftSource.Shape.MIXED, size);
+        lexer = Fixtures.newLexer();
+    }
+
+    @Benchmark
+    public int build() {
+        var lexer = new Lexer(Fixtures.OPERATORS, Fixtures.KEYWORDS, Fixtures.PUNCTUATIONS);
+        lexer.parseSource(source);
+        return lexer.getTokenStream().size();
+    }
+
+    @Benchmark
+    public int shareConfig() {
+        var lexer = Fixtures.newLexer();
+        lexer.parseSource(source);
+        return lexer.getTokenStream().size();
+    }
+
+    @Benchmark
+    public int reset() {
+        lexer.reset();
+        lexer.parseSource(source);
+        return lexer.getTokenStream().size();
+    }
+
+}
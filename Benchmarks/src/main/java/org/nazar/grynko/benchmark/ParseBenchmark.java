@@ -0,0 +1,62 @@
+package org.nazar.grynko.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Lexer.parse over a synthetic file on disk. The tokens and bytes counters report tokens/s and bytes/s,
+// run with "-prof gc" to get the allocation rate (divide gc.alloc.rate.norm by the token count per file).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ParseBenchmark {
+
+    @Param({"4096", "1048576", "67108864"})
+    private int size;
+
+    @Param({"MIXED", "IDENTIFIERS", "OPERATORS", "MULTILINE_STRING", "MULTILINE_COMMENT"})
+    private SwiftSource.Shape shape;
+
+    private Path file;
+    private long bytes;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        public long tokens;
+        public long bytes;
+
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("lexer-benchmark", ".swift");
+        Files.writeString(file, SwiftSource.generate(shape, size), StandardCharsets.UTF_8);
+        bytes = Files.size(file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int parse(Counters counters) {
+        var lexer = Fixtures.newLexer();
+        lexer.parse(file.toString());
+
+        var tokens = lexer.getTokenStream().size();
+        counters.tokens += tokens;
+        counters.bytes += bytes;
+        return tokens;
+    }
+
+}
@@ -0,0 +1,35 @@
+package org.nazar.grynko.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Exercises the per-character scan loops; run with "-prof gc" to see the allocation per operation
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadLoopBenchmark {
+
+    private static final int SOURCE_SIZE = 64 * 1024;
+
+    @Param({"false", "true"})
+    private boolean unicode;
+
+    private String source;
+
+    @Setup
+    public void setUp() {
+        source = SwiftSource.identifiers(SOURCE_SIZE, unicode);
+    }
+
+    @Benchmark
+    public int lex() {
+        var lexer = Fixtures.newLexer();
+        lexer.parseSource(source);
+        return lexer.getTokenStream().size();
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.nazar.grynko.benchmark;
+
+import java.util.Random;
+
+// Deterministic synthetic Swift sources of a requested size
+public final class SwiftSource {
+
+    public enum Shape {
+        MIXED,
+        IDENTIFIERS,
+        OPERATORS,
+        MULTILINE_STRING,
+        MULTILINE_COMMENT
+    }
+
+    private static final String[] IDENTIFIERS = {
+            "value", "firstNumber", "secondClosure", "someFunction", "result", "index", "_buffer", "count"
+    };
+    private static final String[] UNICODE_IDENTIFIERS = {
+            "значення", "größe", "café", "日本語", "naïve", "ünïcode", "λambda", "πi"
+    };
+    private static final String[] OPERATORS = {
+            "+", "-", "*", "/", "%", "&&", "||", "==", "!=", "<=", ">=", "<<", ">>", "??", "..<", "...", "->", "==="
+    };
+    private static final String[] STATEMENTS = {
+            "let %s = %s(%s, %s)",
+            "if %s < %s && %s != nil {",
+            "    print(\"\\(%s) < \\(%s)\")",
+            "}",
+            "func %s(%s: Int, %s: Callback? = nil) -> Int {",
+            "    return %s ?? %s + 100  // fallback",
+            "typealias %s = (Int) -> %s",
+            "@Type",
+            "var %s = [%s, %s, 1.5, 42]",
+            "/* %s */",
+            "\t%s.%s = %s as? Int",
+    };
+
+    private SwiftSource() {
+    }
+
+    static String generate(Shape shape, int size) {
+        var random = new Random(size);
+        var sb = new StringBuilder(size + 256);
+
+        while (sb.length() < size) {
+            switch (shape) {
+                case MIXED -> appendStatement(sb, random);
+                case IDENTIFIERS -> appendIdentifiers(sb, random, IDENTIFIERS);
+                case OPERATORS -> appendOperators(sb, random);
+                case MULTILINE_STRING -> appendMultiline(sb, random, size, "\"\"\"", "\"\"\"");
+                case MULTILINE_COMMENT -> appendMultiline(sb, random, size, "/*", "*/");
+            }
+        }
+
+        return sb.toString();
+    }
+
+    static String identifiers(int size, boolean unicode) {
+        var names = unicode ? UNICODE_IDENTIFIERS : IDENTIFIERS;
+        var random = new Random(size);
+        var sb = new StringBuilder(size + 128);
+
+        while (sb.length() < size) {
+            appendIdentifiers(sb, random, names);
+        }
+
+        return sb.toString();
+    }
+
+    private static void appendStatement(StringBuilder sb, Random random) {
+        var statement = STATEMENTS[random.nextInt(STATEMENTS.length)];
+        var names = new Object[4];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = IDENTIFIERS[random.nextInt(IDENTIFIERS.length)];
+        }
+
+        sb.append(String.format(statement, names)).append('\n');
+    }
+
+    private static void appendIdentifiers(StringBuilder sb, Random random, String[] names) {
+        sb.append("let ").append(names[random.nextInt(names.length)])
+                .append(" = ").append(names[random.nextInt(names.length)])
+                .append('(').append(names[random.nextInt(names.length)])
+                .append(", ").append(names[random.nextInt(names.length)])
+                .append(")\n");
+    }
+
+    private static void appendOperators(StringBuilder sb, Random random) {
+        sb.append(IDENTIFIERS[random.nextInt(IDENTIFIERS.length)]);
+        for (int i = 0; i < 8; i++) {
+            sb.append(OPERATORS[random.nextInt(OPERATORS.length)]).append(random.nextInt(100));
+        }
+        sb.append('\n');
+    }
+
+    // One literal that spans the whole source
+    private static void appendMultiline(StringBuilder sb, Random random, int size, String open, String close) {
+        sb.append("let text = ").append(open).append('\n');
+        while (sb.length() < size) {
+            sb.append("    ").append(IDENTIFIERS[random.nextInt(IDENTIFIERS.length)])
+                    .append(" \\(value) * 2 = ").append(random.nextInt(1000)).append('\n');
+        }
+        sb.append(close).append('\n');
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.nazar.grynko.benchmark;
+
+import org.nazar.grynko.lexer.TriviaMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Lexing with trivia kept as tokens, attached to the tokens around them or dropped.
+// The tokens counter reports tokens/s, run with "-prof gc" to compare the allocation per operation.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TriviaBenchmark {
+
+    private static final int SOURCE_SIZE = 1024 * 1024;
+
+    @Param({"KEEP", "ATTACH", "DROP"})
+    private TriviaMode mode;
+
+    private String source;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        public long tokens;
+
+    }
+
+    @Setup
+    public void setUp() {
+        source = SwiftSource.generate(SwiftSource.Shape.MIXED, SOURCE_SIZE);
+    }
+
+    @Benchmark
+    public int lex(Counters counters) {
+        var lexer = Fixtures.newLexer();
+        lexer.setTriviaMode(mode);
+        lexer.parseSource(source);
+
+        var tokens = lexer.getTokenStream().size();
+        counters.tokens += tokens;
+        return tokens;
+    }
+
+}
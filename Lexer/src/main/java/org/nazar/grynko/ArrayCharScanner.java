@@ -0,0 +1,53 @@
+package org.nazar.grynko;
+
+// Scans the chars of a CharBuffer directly, base is the array index of the buffer's first char.
+// Ranges of LONG_RANGE chars and more go to the vector scanner if there is one.
+final class ArrayCharScanner extends CharScanner {
+
+    static final int LONG_RANGE = 64;
+
+    private final char[] chars;
+    private final int base;
+    private final CharScanner vector;
+
+    ArrayCharScanner(char[] chars, int base, CharScanner vector) {
+        this.chars = chars;
+        this.base = base;
+        this.vector = vector;
+    }
+
+    @Override
+    public int indexOf(int from, int to, char c) {
+        if (vector != null && to - from >= LONG_RANGE) {
+            return vector.indexOf(from, to, c);
+        }
+        for (int i = base + from, end = base + to; i < end; i++) {
+            if (chars[i] == c) return i - base;
+        }
+        return to;
+    }
+
+    @Override
+    public int indexOf(int from, int to, char c1, char c2) {
+        if (vector != null && to - from >= LONG_RANGE) {
+            return vector.indexOf(from, to, c1, c2);
+        }
+        for (int i = base + from, end = base + to; i < end; i++) {
+            var c = chars[i];
+            if (c == c1 || c == c2) return i - base;
+        }
+        return to;
+    }
+
+    @Override
+    public int skip(int from, int to, char c) {
+        if (vector != null && to - from >= LONG_RANGE) {
+            return vector.skip(from, to, c);
+        }
+        for (int i = base + from, end = base + to; i < end; i++) {
+            if (chars[i] != c) return i - base;
+        }
+        return to;
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.nazar.grynko;
+
+// Precomputed character classes: one bitmask per ASCII character, other characters are classified on the fly
+public final class CharClass {
+
+    public static final int WHITESPACE = 1;
+    public static final int TAB = 1 << 1;
+    public static final int PUNCTUATION = 1 << 2;
+    public static final int DIGIT = 1 << 3;
+    public static final int WORD = 1 << 4;
+    public static final int OPERATOR = 1 << 5;
+    public static final int BACK_SLASH = 1 << 6;
+    public static final int DOT = 1 << 7;
+    public static final int DOUBLE_QUOTE = 1 << 8;
+    public static final int AT = 1 << 9;
+    public static final int CAST_OPERATOR = 1 << 10;
+    public static final int END_OF_TOKEN = 1 << 11;
+
+    private static final int ASCII_SIZE = 128;
+    private static final int[] CLASSES = new int[ASCII_SIZE];
+
+    static {
+        set(" ", WHITESPACE | END_OF_TOKEN);
+        set("\t", TAB | END_OF_TOKEN);
+        set(",;[]{}()", PUNCTUATION | END_OF_TOKEN);
+        set("+-*/<>=?!.:&|^~%$", OPERATOR | END_OF_TOKEN);
+        set("\\", BACK_SLASH);
+        set(".", DOT);
+        set("\"", DOUBLE_QUOTE | END_OF_TOKEN);
+        set("@", AT | END_OF_TOKEN);
+        set("?!", CAST_OPERATOR);
+        set("_", WORD);
+
+        for (char c = 0; c < ASCII_SIZE; c++) {
+            CLASSES[c] |= unicodeClass(c);
+        }
+    }
+
+    private CharClass() {
+    }
+
+    public static int of(char c) {
+        return c < ASCII_SIZE ? CLASSES[c] : unicodeClass(c);
+    }
+
+    public static boolean is(char c, int charClass) {
+        return (of(c) & charClass) != 0;
+    }
+
+    public static boolean has(int classes, int charClass) {
+        return (classes & charClass) != 0;
+    }
+
+    private static int unicodeClass(char c) {
+        var classes = 0;
+        if (Character.isDigit(c)) {
+            classes |= DIGIT;
+        }
+        if (Character.isAlphabetic(c)) {
+            classes |= WORD;
+        }
+        return classes;
+    }
+
+    private static void set(String chars, int charClass) {
+        for (int i = 0; i < chars.length(); i++) {
+            CLASSES[chars.charAt(i)] |= charClass;
+        }
+    }
+
+}
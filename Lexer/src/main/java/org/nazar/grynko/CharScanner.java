@@ -0,0 +1,67 @@
+package org.nazar.grynko;
+
+import java.lang.reflect.Constructor;
+import java.nio.CharBuffer;
+
+// Finds the next character of interest in a source, a search that finds nothing returns the end of its range
+public abstract class CharScanner {
+
+    private static final Constructor<? extends CharScanner> VECTOR = vectorConstructor();
+
+    // A char[] behind the source (decoded files) is scanned directly, long ranges a vector at a time with the vector
+    // profile and --add-modules jdk.incubator.vector. Other sequences go through charAt. Positions are relative to
+    // the sequence.
+    public static CharScanner of(CharSequence source) {
+        if (source instanceof CharBuffer && ((CharBuffer) source).hasArray()) {
+            var buffer = (CharBuffer) source;
+            var chars = buffer.array();
+            var base = buffer.arrayOffset() + buffer.position();
+            return new ArrayCharScanner(chars, base, VECTOR == null ? null : newVector(chars, base));
+        }
+        return new SequenceCharScanner(source);
+    }
+
+    public static CharScanner scalar(char[] chars) {
+        return new ArrayCharScanner(chars, 0, null);
+    }
+
+    public static CharScanner vector(char[] chars) {
+        if (VECTOR == null) {
+            throw new IllegalStateException("VectorCharScanner needs the vector profile and jdk.incubator.vector");
+        }
+        return newVector(chars, 0);
+    }
+
+    // First index in [from, to) holding c
+    public abstract int indexOf(int from, int to, char c);
+
+    // First index in [from, to) holding c1 or c2
+    public abstract int indexOf(int from, int to, char c1, char c2);
+
+    // First index in [from, to) not holding c
+    public abstract int skip(int from, int to, char c);
+
+    // VectorCharScanner is only compiled by the vector profile and can only be loaded with the module
+    private static Constructor<? extends CharScanner> vectorConstructor() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Class.forName("org.nazar.grynko.VectorCharScanner")
+                    .asSubclass(CharScanner.class)
+                    .getDeclaredConstructor(char[].class, int.class);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static CharScanner newVector(char[] chars, int base) {
+        try {
+            return VECTOR.newInstance(chars, base);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
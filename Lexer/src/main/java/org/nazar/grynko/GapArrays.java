@@ -0,0 +1,87 @@
+package org.nazar.grynko;
+
+// Rows in parallel arrays with a gap where the last splice was, so a splice only moves the rows since the previous one
+public abstract class GapArrays {
+
+    protected int size;
+    // The gap is in front of the row gap and takes gapLength slots of the arrays
+    protected int gap;
+    protected int gapLength;
+
+    protected GapArrays(int capacity) {
+        gapLength = capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Slot of the row in the arrays
+    protected final int index(int row) {
+        return row < gap ? row : row + gapLength;
+    }
+
+    // Makes room for a row at the end, returns its slot
+    protected final int append() {
+        return splice(size, size, 1);
+    }
+
+    // Removes the rows [from, to) and makes room for count rows in their place, returns the slot of the first one.
+    // The new rows are in front of the gap, their positions are absolute.
+    protected final int splice(int from, int to, int count) {
+        moveGap(to);
+
+        gap = from;
+        gapLength += to - from;
+        size -= to - from;
+
+        if (gapLength < count) {
+            grow(count - gapLength);
+        }
+
+        gap += count;
+        gapLength -= count;
+        size += count;
+        return from;
+    }
+
+    protected final void clearRows() {
+        size = 0;
+        gap = 0;
+        gapLength = capacity();
+    }
+
+    protected abstract int capacity();
+
+    // Reallocates the arrays with the capacity, the slots keep their rows
+    protected abstract void resize(int capacity);
+
+    // Copies length rows from the slot from to the slot to, the ranges may overlap
+    protected abstract void copy(int from, int to, int length);
+
+    // Rows behind the gap may keep their positions relative to a shift of the subclass, which moves all of them at
+    // once. Adds sign times that shift to the positions of the slots [from, to).
+    protected abstract void shift(int from, int to, int sign);
+
+    private void moveGap(int row) {
+        if (row < gap) {
+            copy(row, row + gapLength, gap - row);
+            shift(row + gapLength, gap + gapLength, -1);
+        } else if (row > gap) {
+            copy(gap + gapLength, gap, row - gap);
+            shift(gap, row, 1);
+        }
+        gap = row;
+    }
+
+    private void grow(int extra) {
+        var capacity = capacity();
+        var newCapacity = Math.max(capacity * 2, capacity + extra);
+        var tail = size - gap;
+
+        resize(newCapacity);
+        copy(gap + gapLength, newCapacity - tail, tail);
+        gapLength = newCapacity - tail - gap;
+    }
+
+}
@@ -0,0 +1,152 @@
+package org.nazar.grynko;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Invalid tokens with a gap at the last replaced range, an edit moves the rows behind the gap without touching them
+public class InvalidList extends AbstractList<InvalidToken> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Rows rows = new Rows();
+
+    public InvalidList() {
+    }
+
+    public InvalidList(Collection<InvalidToken> tokens) {
+        addAll(tokens);
+    }
+
+    @Override
+    public InvalidToken get(int index) {
+        checkIndex(index, rows.size);
+        return rows.get(index);
+    }
+
+    @Override
+    public InvalidToken set(int index, InvalidToken token) {
+        checkIndex(index, rows.size);
+        var previous = rows.get(index);
+        rows.set(rows.index(index), token);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, InvalidToken token) {
+        checkIndex(index, rows.size + 1);
+        rows.set(rows.splice(index, index, 1), token);
+    }
+
+    @Override
+    public InvalidToken remove(int index) {
+        checkIndex(index, rows.size);
+        var token = rows.get(index);
+        rows.splice(index, index + 1, 0);
+        return token;
+    }
+
+    @Override
+    public int size() {
+        return rows.size;
+    }
+
+    @Override
+    public void clear() {
+        rows.clear();
+    }
+
+    // Replaces the tokens in [from, to) with tokens, the tokens after the range are moved by rowShift rows
+    public void replace(int from, int to, List<InvalidToken> tokens, int rowShift) {
+        var slot = rows.splice(from, to, tokens.size());
+        rows.tailShift += rowShift;
+
+        for (int i = 0; i < tokens.size(); i++) {
+            rows.set(slot + i, tokens.get(i));
+        }
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    // A token behind the gap has its rows moved in place when it is read, shifts holds the tailShift they match
+    private static class Rows extends GapArrays {
+
+        private InvalidToken[] tokens = new InvalidToken[INITIAL_CAPACITY];
+        private int[] shifts = new int[INITIAL_CAPACITY];
+        private int tailShift;
+
+        Rows() {
+            super(INITIAL_CAPACITY);
+        }
+
+        InvalidToken get(int row) {
+            var slot = index(row);
+            if (row >= gap) {
+                update(slot);
+            }
+            return tokens[slot];
+        }
+
+        void set(int slot, InvalidToken token) {
+            tokens[slot] = token;
+            shifts[slot] = tailShift;
+        }
+
+        void clear() {
+            Arrays.fill(tokens, null);
+            clearRows();
+            tailShift = 0;
+        }
+
+        private void update(int slot) {
+            var rows = tailShift - shifts[slot];
+            if (rows == 0) {
+                return;
+            }
+
+            var token = tokens[slot];
+            token.setRow(token.getRow() + rows);
+            if (token.getMessageRow() != InvalidToken.NO_POSITION) {
+                token.setMessageRow(token.getMessageRow() + rows);
+            }
+            shifts[slot] = tailShift;
+        }
+
+        @Override
+        protected int capacity() {
+            return tokens.length;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            tokens = Arrays.copyOf(tokens, capacity);
+            shifts = Arrays.copyOf(shifts, capacity);
+        }
+
+        @Override
+        protected void copy(int from, int to, int length) {
+            System.arraycopy(tokens, from, tokens, to, length);
+            System.arraycopy(shifts, from, shifts, to, length);
+        }
+
+        // Rows that leave the gap's tail are brought up to date, rows that join it match the current shift
+        @Override
+        protected void shift(int from, int to, int sign) {
+            for (int slot = from; slot < to; slot++) {
+                if (sign > 0) {
+                    update(slot);
+                } else {
+                    shifts[slot] = tailShift;
+                }
+            }
+        }
+
+    }
+
+}
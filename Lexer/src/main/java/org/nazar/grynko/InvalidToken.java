@@ -5,15 +5,29 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+// A message can quote a position as [row:col]: it is then a format of messageRow and messageCol, which move with the
+// token when the lines before it change
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class InvalidToken {
 
+    public static final int NO_POSITION = Integer.MIN_VALUE;
+
     private String value;
     private String message;
     private int row;
     private int col;
+    private int messageRow = NO_POSITION;
+    private int messageCol;
+
+    public InvalidToken(String value, String message, int row, int col) {
+        this(value, message, row, col, NO_POSITION, 0);
+    }
+
+    public String getMessage() {
+        return messageRow == NO_POSITION ? message : String.format(message, messageRow, messageCol);
+    }
 
 }
@@ -1,32 +1,74 @@
 package org.nazar.grynko;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+// Current line as the [start, end) range of a source buffer; col is relative to the start of the line
 @Setter
 @Getter
 @Accessors(fluent = true)
 public class LineCursor {
 
-    private String line;
+    private CharSequence source;
+    private int start;
+    private int end;
     private int row;
     private int col;
+    @Setter(AccessLevel.NONE)
+    private CharScanner scanner;
 
-    public Character nextChar() {
-        return line.charAt(col);
+    public LineCursor line(CharSequence source, int start, int end) {
+        if (source != this.source || scanner == null) {
+            scanner = CharScanner.of(source);
+        }
+        this.source = source;
+        this.start = start;
+        this.end = end;
+        this.col = 0;
+        return this;
     }
 
-    public Character nextChar(int shift) {
-        return line.charAt(col + shift);
+    public char nextChar() {
+        return source.charAt(start + col);
+    }
+
+    public char nextChar(int shift) {
+        return source.charAt(start + col + shift);
     }
 
     public boolean isEnded() {
-        return col >= line.length();
+        return start + col >= end;
     }
 
     public boolean isEnded(int shift) {
-        return col + shift >= line.length();
+        return start + col + shift >= end;
+    }
+
+    public int length() {
+        return end - start;
+    }
+
+    public int offset(int col) {
+        return start + col;
+    }
+
+    // Offset of the first c at or after the offset from within the line, end when there is none
+    public int indexOf(int from, char c) {
+        return scanner.indexOf(from, end, c);
+    }
+
+    public int indexOf(int from, char c1, char c2) {
+        return scanner.indexOf(from, end, c1, c2);
+    }
+
+    public int skip(int from, char c) {
+        return scanner.skip(from, end, c);
+    }
+
+    public String text(int from, int to) {
+        return source.subSequence(start + from, start + to).toString();
     }
 
 }
@@ -0,0 +1,98 @@
+package org.nazar.grynko;
+
+import java.util.Arrays;
+
+// Start offsets of the lines of a source, scanned on the first lookup. Line breaks follow BufferedReader.readLine:
+// "\n", "\r" or "\r\n", a trailing break does not start a new line.
+public class LineIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private CharSequence source;
+    private int[] starts;
+    private int size;
+
+    public LineIndex(CharSequence source) {
+        this.source = source;
+    }
+
+    protected LineIndex() {
+    }
+
+    LineIndex(int[] starts, int size) {
+        this.starts = starts;
+        this.size = size;
+    }
+
+    public int size() {
+        build();
+        return size;
+    }
+
+    public int start(int row) {
+        build();
+        return starts[row];
+    }
+
+    // Row of the line the offset belongs to
+    public int row(int offset) {
+        build();
+        var row = Arrays.binarySearch(starts, 0, size, offset);
+        return row >= 0 ? row : -row - 2;
+    }
+
+    public int col(int offset) {
+        return offset - start(row(offset));
+    }
+
+    // Offset of the line break of the line that contains from, or the length of the source
+    public static int lineEnd(CharSequence source, int from) {
+        var end = from;
+        var length = source.length();
+
+        while (end < length) {
+            var c = source.charAt(end);
+            if (c == '\n' || c == '\r') break;
+            end++;
+        }
+
+        return end;
+    }
+
+    // Start of the line after the break at lineEnd
+    public static int nextLine(CharSequence source, int lineEnd) {
+        if (lineEnd >= source.length()) {
+            return lineEnd;
+        }
+
+        if (source.charAt(lineEnd) == '\r' && lineEnd + 1 < source.length() && source.charAt(lineEnd + 1) == '\n') {
+            return lineEnd + 2;
+        }
+
+        return lineEnd + 1;
+    }
+
+    private void build() {
+        if (starts != null) {
+            return;
+        }
+
+        var starts = new int[INITIAL_CAPACITY];
+        var size = 0;
+        var length = source.length();
+        var start = 0;
+
+        while (start < length) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+            }
+            starts[size++] = start;
+            start = nextLine(source, lineEnd(source, start));
+        }
+
+        this.starts = starts;
+        this.size = size;
+        this.source = null;
+    }
+
+}
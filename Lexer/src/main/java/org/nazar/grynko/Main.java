@@ -1,9 +1,19 @@
 package org.nazar.grynko;
 
 import lombok.SneakyThrows;
+import org.nazar.grynko.lexer.BatchLexer;
 import org.nazar.grynko.lexer.Lexer;
+import org.nazar.grynko.lexer.LexerConfig;
+import org.nazar.grynko.lexer.LexerResult;
+import org.nazar.grynko.lexer.TokenCache;
+import org.nazar.grynko.output.OutputFormat;
+import org.nazar.grynko.output.TokenWriter;
+import org.nazar.grynko.output.TokenWriterSink;
 
 import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,107 +23,152 @@ public class Main {
     private static final String KEYWORDS_PATH = "src/main/resources/keywords.txt";
     private static final String PUNCTUATIONS_PATH = "src/main/resources/punctuations.txt";
     private static final String INPUT_PATH = "src/main/resources/input.swift";
+    private static final String FORMAT_OPTION = "--format";
+    private static final String CACHE_OPTION = "--cache";
+    private static final String CONFIG_OPTION = "--config";
+    private static final String USAGE =
+            "Usage: [--format text|jsonl|csv] [--cache <directory>] [--config <image>] [<path>...]";
+    private static final long CACHE_MAX_BYTES = 256L * 1024 * 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
 
+    @SneakyThrows
     public static void main(String[] args) {
-        List<String> operators = null, keywords = null, punctuations = null;
-        var filesAreReachable = true;
-        String errorMessage = null;
+        Options options;
+        try {
+            options = new Options(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println("An error occurred: " + e.getMessage());
+            System.out.println(USAGE);
+            return;
+        }
 
+        // Only the results of a batch are cached
+        if (options.cache != null && options.paths.isEmpty()) {
+            System.err.println("Warning: " + CACHE_OPTION + " is ignored without paths");
+        }
+
+        LexerConfig config;
         try {
-            operators = readWords(OPERATORS_PATH);
-            keywords = readWords(KEYWORDS_PATH);
-            punctuations = readWords(PUNCTUATIONS_PATH);
+            config = readConfig(options.image, Path.of(OPERATORS_PATH), Path.of(KEYWORDS_PATH),
+                    Path.of(PUNCTUATIONS_PATH));
         } catch (Exception e) {
-            filesAreReachable = false;
-            errorMessage = e.getMessage();
+            System.out.println("An error occurred: " + e.getMessage());
+            return;
         }
 
-        if (!filesAreReachable) {
-            System.out.println("An error occurred: " + errorMessage);
-            return;
+        try (var writer = options.format.writer(new BufferedWriter(
+                new OutputStreamWriter(System.out, Charset.defaultCharset()), OUTPUT_BUFFER_SIZE))) {
+            if (!options.paths.isEmpty()) {
+                lexBatch(options, writer, config);
+                return;
+            }
+
+            var lexer = new Lexer(config);
+            var sink = new TokenWriterSink(writer, lexer.getSymbolTable());
+            lexer.setSink(sink);
+
+            writer.beginTokens();
+            var parsed = lexer.parse(INPUT_PATH);
+            writer.endTokens();
+
+            writer.write(sink.getInvalid());
+            // The tokens are written while the file is lexed, so whether it was parsed is only known after them
+            writer.file(Path.of(INPUT_PATH), parsed);
         }
+    }
 
-        var lexer = new Lexer(operators, keywords, punctuations);
-        lexer.parse(INPUT_PATH);
+    private static void lexBatch(Options options, TokenWriter writer, LexerConfig config) throws IOException {
+        var batchLexer = new BatchLexer(config);
+        if (options.cache != null) {
+            batchLexer.setCache(new TokenCache(options.cache, CACHE_MAX_BYTES, config));
+        }
 
-        print(lexer);
+        batchLexer.lex(options.paths, result -> write(writer, result));
     }
 
     @SneakyThrows
-    private static List<String> readWords(String path) {
-        var words = new ArrayList<String>();
+    private static void write(TokenWriter writer, LexerResult result) {
+        writer.file(result.path(), result.parsed());
+        writer.write(result.tokens(), result.symbolTable(), result.invalid());
+    }
 
-        var br = new BufferedReader(new FileReader(path));
+    // The image is a cache of the word lists: it is read unless one of them changed after it was written,
+    // a stale or broken image is written again
+    private static LexerConfig readConfig(Path image, Path operators, Path keywords, Path punctuations)
+            throws IOException {
+        if (image != null && Files.exists(image) && isUpToDate(image, List.of(operators, keywords, punctuations))) {
+            try {
+                return LexerConfig.load(image);
+            } catch (IOException e) {
+                System.err.println("Warning: " + e.getMessage() + ", " + image + " is written again");
+            }
+        }
 
-        String word;
-        while ((word = br.readLine()) != null) {
-            words.add(word.trim());
+        // The built config is used even if the image can't be written
+        var config = LexerConfig.build(readWords(operators), readWords(keywords), readWords(punctuations));
+        if (image != null) {
+            try {
+                config.save(image);
+            } catch (IOException e) {
+                System.err.println("Warning: " + image + " wasn't written: " + e.getMessage());
+            }
         }
 
-        return words;
+        return config;
     }
 
-    private static void print(Lexer lexer) {
-        System.out.println("========== TOKENS ==========");
-        printTokens(lexer);
-
-        System.out.println("========== INVALID ==========");
-        printInvalid(lexer);
+    private static boolean isUpToDate(Path image, List<Path> wordLists) throws IOException {
+        var imageTime = Files.getLastModifiedTime(image);
+        for (var wordList: wordLists) {
+            if (Files.getLastModifiedTime(wordList).compareTo(imageTime) > 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private static void printTokens(Lexer lexer) {
-        if (lexer.getTokens().isEmpty()) {
-            System.out.println();
-            return;
-        }
+    @SneakyThrows
+    private static List<String> readWords(Path path) {
+        var words = new ArrayList<String>();
 
-        var tokens = lexer.getTokens();
-        var table = lexer.getSymbolTable();
-
-        var sb = new StringBuilder();
-        for (var token: tokens) {
-            var value = table.get(token.getSymbolTableIndex());
-            sb.append(token.getSymbolTableIndex())
-                    .append(". ")
-                    .append(token.getType())
-                    .append(": '")
-                    .append(value)
-                    .append("' [")
-                    .append(token.getRow())
-                    .append(":")
-                    .append(token.getCol())
-                    .append("] ")
-                    .append("length ")
-                    .append(value.length())
-                    .append("\n");
+        var br = new BufferedReader(new FileReader(path.toFile()));
+
+        String word;
+        while ((word = br.readLine()) != null) {
+            words.add(word.trim());
         }
 
-        System.out.println(sb);
+        return words;
     }
 
-    private static void printInvalid(Lexer lexer) {
-        if (lexer.getInvalid().isEmpty()) {
-            System.out.println();
-            return;
+    private static class Options {
+
+        private OutputFormat format = OutputFormat.TEXT;
+        private Path cache;
+        private Path image;
+        private final List<Path> paths = new ArrayList<>();
+
+        private Options(String[] args) {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(FORMAT_OPTION)) {
+                    format = OutputFormat.getByName(value(args, ++i));
+                } else if (args[i].equals(CACHE_OPTION)) {
+                    cache = Path.of(value(args, ++i));
+                } else if (args[i].equals(CONFIG_OPTION)) {
+                    image = Path.of(value(args, ++i));
+                } else {
+                    paths.add(Path.of(args[i]));
+                }
+            }
         }
 
-        var sb = new StringBuilder();
-        int i = 0;
-        for (var invalid: lexer.getInvalid()) {
-            sb.append(i)
-                    .append(". '")
-                    .append(invalid.getValue())
-                    .append("'")
-                    .append(" [")
-                    .append(invalid.getRow())
-                    .append(":")
-                    .append(invalid.getCol())
-                    .append("] ")
-                    .append(invalid.getMessage())
-                    .append("\n");
+        private static String value(String[] args, int i) {
+            if (i == args.length) {
+                throw new IllegalArgumentException("Missing value of " + args[i - 1]);
+            }
+            return args[i];
         }
 
-        System.out.println(sb);
     }
 
 }
@@ -0,0 +1,36 @@
+package org.nazar.grynko;
+
+final class SequenceCharScanner extends CharScanner {
+
+    private final CharSequence source;
+
+    SequenceCharScanner(CharSequence source) {
+        this.source = source;
+    }
+
+    @Override
+    public int indexOf(int from, int to, char c) {
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) == c) return i;
+        }
+        return to;
+    }
+
+    @Override
+    public int indexOf(int from, int to, char c1, char c2) {
+        for (int i = from; i < to; i++) {
+            var c = source.charAt(i);
+            if (c == c1 || c == c2) return i;
+        }
+        return to;
+    }
+
+    @Override
+    public int skip(int from, int to, char c) {
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) != c) return i;
+        }
+        return to;
+    }
+
+}
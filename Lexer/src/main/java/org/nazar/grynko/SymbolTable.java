@@ -0,0 +1,165 @@
+package org.nazar.grynko;
+
+import java.util.Arrays;
+
+// Hash-consed lexemes: every distinct lexeme is stored once and keeps a stable id
+public class SymbolTable {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private CharSequence[] symbols;
+    private int[] hashes;
+    // Open addressing with linear probing, 0 marks a free slot, otherwise id + 1
+    private int[] slots;
+    private int size;
+    private final SymbolTable base;
+    private final int baseSize;
+
+    public SymbolTable() {
+        this(null);
+    }
+
+    // Keeps the ids of the base and gives new symbols ids after them, the base is not changed.
+    // The base must not change while this table is used.
+    public SymbolTable(SymbolTable base) {
+        this.base = base;
+        baseSize = base == null ? 0 : base.size();
+        symbols = new CharSequence[INITIAL_CAPACITY / 2];
+        hashes = new int[INITIAL_CAPACITY / 2];
+        slots = new int[INITIAL_CAPACITY];
+    }
+
+    public int intern(String symbol) {
+        return intern(symbol, 0, symbol.length());
+    }
+
+    public int intern(CharSequence src, int from, int to) {
+        return intern(src, from, to, hash(src, from, to), false);
+    }
+
+    // The text is kept as it is and turned into a String when it is first read. It must not change until then,
+    // hash is its String.hashCode.
+    public int internLazily(CharSequence text, int hash) {
+        return intern(text, 0, text.length(), hash, true);
+    }
+
+    public String get(int id) {
+        return id < baseSize ? base.get(id) : symbol(id - baseSize);
+    }
+
+    public int size() {
+        return baseSize + size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Keeps the capacity, ids start from the size of the base again
+    public void clear() {
+        Arrays.fill(symbols, 0, size, null);
+        Arrays.fill(slots, 0);
+        size = 0;
+    }
+
+    private String symbol(int id) {
+        var symbol = symbols[id];
+        if (symbol instanceof String) {
+            return (String) symbol;
+        }
+
+        var value = symbol.toString();
+        symbols[id] = value;
+        return value;
+    }
+
+    private int intern(CharSequence src, int from, int to, int hash, boolean lazy) {
+        if (base != null) {
+            var id = base.find(src, from, to, hash);
+            if (id >= 0) {
+                return id;
+            }
+        }
+
+        var slot = probe(src, from, to, hash);
+        if (slots[slot] != 0) {
+            return baseSize + slots[slot] - 1;
+        }
+
+        var id = add(lazy ? src : src.subSequence(from, to).toString(), hash);
+        slots[slot] = id + 1;
+
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+
+        return baseSize + id;
+    }
+
+    // Id of the symbol, or -1 when it is not interned
+    private int find(CharSequence src, int from, int to, int hash) {
+        if (base != null) {
+            var id = base.find(src, from, to, hash);
+            if (id >= 0) {
+                return id;
+            }
+        }
+
+        var slot = probe(src, from, to, hash);
+        return slots[slot] == 0 ? -1 : baseSize + slots[slot] - 1;
+    }
+
+    // Slot of the symbol, or the free slot where it goes
+    private int probe(CharSequence src, int from, int to, int hash) {
+        var mask = slots.length - 1;
+        var slot = mix(hash) & mask;
+
+        while (slots[slot] != 0) {
+            var id = slots[slot] - 1;
+            if (hashes[id] == hash && Validator.regionEquals(src, from, to, symbol(id))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private int add(CharSequence symbol, int hash) {
+        if (size == symbols.length) {
+            symbols = Arrays.copyOf(symbols, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+
+        symbols[size] = symbol;
+        hashes[size] = hash;
+        return size++;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        var mask = slots.length - 1;
+
+        for (int id = 0; id < size; id++) {
+            var slot = mix(hashes[id]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id + 1;
+        }
+    }
+
+    // Same value as String.hashCode of the range
+    private static int hash(CharSequence src, int from, int to) {
+        var hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + src.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.nazar.grynko;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// The default sink of the lexer, keeps every token and invalid token.
+// Trivia that follow a token on its line are attached to it as trailing trivia, the rest is left in the gap
+// before the next token, which is its leading trivia.
+public class TokenCollector implements TokenSink {
+
+    @Getter
+    @Setter
+    private TokenStream tokens;
+    @Getter
+    @Setter
+    private List<InvalidToken> invalid;
+    private boolean trailing;
+
+    public TokenCollector() {
+        this(new TokenStream(), new ArrayList<>());
+    }
+
+    public TokenCollector(TokenStream tokens, List<InvalidToken> invalid) {
+        this.tokens = tokens;
+        this.invalid = invalid;
+    }
+
+    @Override
+    public void onToken(TokenType type, int row, int col, int offset, int length, int symbol) {
+        tokens.add(type, offset, length, symbol);
+        trailing = true;
+    }
+
+    @Override
+    public void onInvalid(InvalidToken token) {
+        invalid.add(token);
+        trailing = false;
+    }
+
+    @Override
+    public void onTrivia(TokenType type, int offset, int length) {
+        if (trailing) {
+            tokens.trail(offset + length);
+        }
+    }
+
+    @Override
+    public void onLineEnd(int row) {
+        trailing = false;
+    }
+
+}
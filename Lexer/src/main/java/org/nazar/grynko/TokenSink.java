@@ -0,0 +1,18 @@
+package org.nazar.grynko;
+
+// Receives tokens while the lexer emits them. offset and length give the span of the token in the lexed source,
+// symbol is the id of the token text in the lexer's SymbolTable.
+public interface TokenSink {
+
+    void onToken(TokenType type, int row, int col, int offset, int length, int symbol);
+
+    void onInvalid(InvalidToken token);
+
+    // Whitespace or a comment, only called when the lexer attaches trivia instead of emitting them as tokens
+    default void onTrivia(TokenType type, int offset, int length) {
+    }
+
+    default void onLineEnd(int row) {
+    }
+
+}
@@ -0,0 +1,257 @@
+package org.nazar.grynko;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Struct-of-arrays token storage, a token is the span [offset, offset + length) of the lexed source
+public class TokenStream extends GapArrays {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final TokenType[] TYPES = TokenType.values();
+
+    private short[] types;
+    private int[] offsets;
+    private int[] lengths;
+    private int[] symbols;
+    private int[] trailing;
+    // Offsets of the tokens behind the gap are relative to it
+    private int tailShift;
+    private LineIndex lines;
+
+    public TokenStream() {
+        super(INITIAL_CAPACITY);
+        types = new short[INITIAL_CAPACITY];
+        offsets = new int[INITIAL_CAPACITY];
+        lengths = new int[INITIAL_CAPACITY];
+        symbols = new int[INITIAL_CAPACITY];
+    }
+
+    public void add(TokenType type, int offset, int length, int symbol) {
+        var slot = append();
+
+        types[slot] = (short) type.ordinal();
+        offsets[slot] = offset;
+        lengths[slot] = length;
+        symbols[slot] = symbol;
+        if (trailing != null) {
+            trailing[slot] = 0;
+        }
+    }
+
+    // Makes the trailing trivia of the last token run to end, the lengths are only allocated once trivia are attached
+    public void trail(int end) {
+        if (trailing == null) {
+            trailing = new int[types.length];
+        }
+
+        var last = size - 1;
+        trailing[index(last)] = end - offset(last) - length(last);
+    }
+
+    // Replaces the tokens in [from, to) with tokens, the tokens after the range are moved by offsetShift chars.
+    // Only the tokens between the range and the previous replaced one are moved in the arrays.
+    public void replace(int from, int to, TokenStream tokens, int offsetShift) {
+        var slot = splice(from, to, tokens.size);
+        tailShift += offsetShift;
+
+        if (trailing == null && tokens.trailing != null) {
+            trailing = new int[types.length];
+        }
+
+        for (int i = 0; i < tokens.size; i++) {
+            types[slot + i] = tokens.types[tokens.index(i)];
+            offsets[slot + i] = tokens.offset(i);
+            lengths[slot + i] = tokens.length(i);
+            symbols[slot + i] = tokens.symbol(i);
+            if (trailing != null) {
+                trailing[slot + i] = tokens.trailing == null ? 0 : tokens.trailing[tokens.index(i)];
+            }
+        }
+    }
+
+    public TokenType type(int index) {
+        return TYPES[types[index(index)]];
+    }
+
+    public int offset(int index) {
+        return index < gap ? offsets[index] : offsets[index + gapLength] + tailShift;
+    }
+
+    public int length(int index) {
+        return lengths[index(index)];
+    }
+
+    // Start of the leading trivia, the gap from the previous token. With trivia attached the ranges
+    // [leading, trailing) of all tokens cover the source.
+    public int leading(int index) {
+        return index == 0 ? 0 : Math.min(offset(index), trailing(index - 1));
+    }
+
+    // End of the trailing trivia
+    public int trailing(int index) {
+        var end = offset(index) + length(index);
+        return trailing == null ? end : end + trailing[index(index)];
+    }
+
+    // Rows and columns are looked up in the line index on demand
+    public int row(int index) {
+        return lines().row(offset(index));
+    }
+
+    public int col(int index) {
+        return lines().col(offset(index));
+    }
+
+    public int symbol(int index) {
+        return symbols[index(index)];
+    }
+
+    public Token get(int index) {
+        return new Token(type(index), row(index), col(index), symbol(index));
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        clearRows();
+        tailShift = 0;
+        trailing = null;
+    }
+
+    public LineIndex lines() {
+        if (lines == null) {
+            throw new IllegalStateException("Token stream has no line index");
+        }
+        return lines;
+    }
+
+    public boolean hasLines() {
+        return lines != null;
+    }
+
+    // Lines of the source the offsets refer to
+    public void lines(LineIndex lines) {
+        this.lines = lines;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    // Read-only view that creates Token objects only when they are accessed
+    public List<Token> asList() {
+        return new TokenList();
+    }
+
+    @Override
+    protected int capacity() {
+        return types.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+        types = Arrays.copyOf(types, capacity);
+        offsets = Arrays.copyOf(offsets, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        symbols = Arrays.copyOf(symbols, capacity);
+        if (trailing != null) {
+            trailing = Arrays.copyOf(trailing, capacity);
+        }
+    }
+
+    @Override
+    protected void copy(int from, int to, int length) {
+        System.arraycopy(types, from, types, to, length);
+        System.arraycopy(offsets, from, offsets, to, length);
+        System.arraycopy(lengths, from, lengths, to, length);
+        System.arraycopy(symbols, from, symbols, to, length);
+        if (trailing != null) {
+            System.arraycopy(trailing, from, trailing, to, length);
+        }
+    }
+
+    @Override
+    protected void shift(int from, int to, int sign) {
+        for (int i = from; i < to; i++) {
+            offsets[i] += sign * tailShift;
+        }
+    }
+
+    // Tokens are ordered by offset (but for a comment nested in a multiline comment, which comes before it),
+    // so the row is found by moving forward from the row of the previous token
+    public class Cursor {
+
+        private int index = -1;
+        private int row = -1;
+
+        public boolean next() {
+            return ++index < size;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public TokenType type() {
+            return TokenStream.this.type(index);
+        }
+
+        public int offset() {
+            return TokenStream.this.offset(index);
+        }
+
+        public int length() {
+            return TokenStream.this.length(index);
+        }
+
+        public int row() {
+            var lines = lines();
+            var offset = offset();
+
+            if (row < 0 || offset < lines.start(row)) {
+                row = lines.row(offset);
+            } else {
+                while (row + 1 < lines.size() && lines.start(row + 1) <= offset) {
+                    row++;
+                }
+            }
+
+            return row;
+        }
+
+        public int col() {
+            return offset() - lines().start(row());
+        }
+
+        public int symbol() {
+            return TokenStream.this.symbol(index);
+        }
+
+        public int trailing() {
+            return TokenStream.this.trailing(index);
+        }
+
+    }
+
+    private class TokenList extends AbstractList<Token> implements RandomAccess {
+
+        @Override
+        public Token get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return TokenStream.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+}
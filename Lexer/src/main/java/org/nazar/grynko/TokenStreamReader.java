@@ -0,0 +1,239 @@
+package org.nazar.grynko;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+// Reads the format written by TokenStreamWriter straight from a buffer, e.g. a mapped file
+public class TokenStreamReader {
+
+    private static final TokenType[] TYPES = TokenType.values();
+    private static final int INITIAL_POOL_CAPACITY = 256;
+
+    private final ByteBuffer buffer;
+    private int[] offsets = new int[INITIAL_POOL_CAPACITY];
+    private int[] lengths = new int[INITIAL_POOL_CAPACITY];
+    private String[] strings = new String[INITIAL_POOL_CAPACITY];
+    private int poolSize;
+
+    private LineIndex lines;
+    private int tag = -1;
+    private int offset;
+    private int length;
+    private int trailing;
+    private int row;
+    private int col;
+    private int symbol;
+    private int message;
+
+    public TokenStreamReader(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.slice();
+        if (this.buffer.remaining() < Integer.BYTES || this.buffer.getInt() != TokenStreamWriter.MAGIC) {
+            throw new IOException("Not a token stream");
+        }
+    }
+
+    // Moves to the next record, false once the end of the stream is reached. A truncated or broken stream throws.
+    public boolean next() throws IOException {
+        if (tag == TokenStreamWriter.END) {
+            return false;
+        }
+
+        try {
+            return readRecord();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Broken token stream", e);
+        }
+    }
+
+    public boolean isInvalid() {
+        return tag == TokenStreamWriter.INVALID;
+    }
+
+    public TokenType type() {
+        return isInvalid() ? null : TYPES[tag - TokenStreamWriter.TOKEN];
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    // Length of the trailing trivia attached to the token, 0 if there are none
+    public int trailing() {
+        return trailing;
+    }
+
+    // Position of an invalid token, rows and columns of tokens are found in the line index
+    public int row() {
+        return row;
+    }
+
+    public int col() {
+        return col;
+    }
+
+    // Lines of the source, null until the line starts are read or if the stream has none
+    public LineIndex lines() {
+        return lines;
+    }
+
+    // Pool id of the token text, or of the value for an invalid token
+    public int symbol() {
+        return symbol;
+    }
+
+    public int message() {
+        return message;
+    }
+
+    // Pooled strings are kept as ranges of the buffer and decoded on first use
+    public String string(int id) {
+        if (strings[id] == null) {
+            strings[id] = StandardCharsets.UTF_8.decode(buffer.slice(offsets[id], lengths[id])).toString();
+        }
+        return strings[id];
+    }
+
+    // Pool ids are translated to table ids as symbols are met, so the table only gets the token texts
+    public void readInto(TokenStream tokens, SymbolTable table, List<InvalidToken> invalid) throws IOException {
+        var ids = new int[INITIAL_POOL_CAPACITY];
+
+        while (next()) {
+            if (isInvalid()) {
+                invalid.add(new InvalidToken(string(symbol), string(message), row, col));
+                continue;
+            }
+
+            if (symbol >= ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(symbol + 1, ids.length * 2));
+            }
+            if (ids[symbol] == 0) {
+                ids[symbol] = table.intern(string(symbol)) + 1;
+            }
+
+            tokens.add(type(), offset, length, ids[symbol] - 1);
+            if (trailing != 0) {
+                tokens.trail(offset + length + trailing);
+            }
+        }
+
+        tokens.lines(lines);
+    }
+
+    private boolean readRecord() throws IOException {
+        trailing = 0;
+        tag = getVarint();
+        while (tag == TokenStreamWriter.LINES || tag == TokenStreamWriter.TRAILING) {
+            if (tag == TokenStreamWriter.LINES) {
+                readLines();
+            } else {
+                trailing = getVarint();
+            }
+            tag = getVarint();
+        }
+
+        if (tag == TokenStreamWriter.END) {
+            return false;
+        }
+        if (tag < 0 || tag - TokenStreamWriter.TOKEN >= TYPES.length) {
+            throw new IOException("Unknown record in token stream: " + tag);
+        }
+
+        if (tag == TokenStreamWriter.INVALID) {
+            var rowDelta = unzigzag(getVarint());
+            var colValue = getVarint();
+            row += rowDelta;
+            col = rowDelta == 0 ? col + unzigzag(colValue) : colValue;
+
+            symbol = getString();
+            message = getString();
+        } else {
+            offset += unzigzag(getVarint());
+            length = getVarint();
+            symbol = getString();
+            checkSpan();
+        }
+
+        return true;
+    }
+
+    private void readLines() throws IOException {
+        var size = getVarint();
+        if (size < 0 || size > buffer.remaining()) {
+            throw new IOException("Token stream has more lines than bytes: " + size);
+        }
+        var starts = new int[size];
+
+        var start = 0;
+        for (int row = 0; row < size; row++) {
+            var delta = getVarint();
+            if (row == 0 ? delta != 0 : delta <= 0 || start + delta < 0) {
+                throw new IOException("Broken line starts in token stream");
+            }
+            start += delta;
+            starts[row] = start;
+        }
+
+        lines = new LineIndex(starts, size);
+    }
+
+    // The source length is not in the stream, so a span may only end where an int offset can, and rows can only
+    // be looked up for tokens that start inside the line index
+    private void checkSpan() throws IOException {
+        if (offset < 0 || length < 0 || trailing < 0 || (long) offset + length + trailing > Integer.MAX_VALUE) {
+            throw new IOException("Broken token span in token stream: " + offset + ", " + length);
+        }
+        if (lines != null && lines.size() == 0) {
+            throw new IOException("Token stream has a token but no lines");
+        }
+    }
+
+    private int getString() throws IOException {
+        var reference = getVarint();
+        if (reference != 0) {
+            if (reference > poolSize) {
+                throw new IOException("Token stream refers to a string it has not read: " + reference);
+            }
+            return reference - 1;
+        }
+
+        if (poolSize == offsets.length) {
+            offsets = Arrays.copyOf(offsets, poolSize * 2);
+            lengths = Arrays.copyOf(lengths, poolSize * 2);
+            strings = Arrays.copyOf(strings, poolSize * 2);
+        }
+
+        var length = getVarint();
+        offsets[poolSize] = buffer.position();
+        lengths[poolSize] = length;
+        buffer.position(buffer.position() + length);
+
+        return poolSize++;
+    }
+
+    private int getVarint() {
+        var value = 0;
+        var shift = 0;
+
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+
+        return value;
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+}
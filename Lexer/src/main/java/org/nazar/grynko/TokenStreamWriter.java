@@ -0,0 +1,204 @@
+package org.nazar.grynko;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Streams tokens in the compact binary format read by TokenStreamReader, every record starts with a varint tag
+public class TokenStreamWriter implements Closeable {
+
+    static final int MAGIC = 0x544B5303;
+    static final int END = 0;
+    static final int INVALID = 1;
+    static final int LINES = 2;
+    static final int TRAILING = 3;
+    // Followed by the type ordinal
+    static final int TOKEN = 4;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private final WritableByteChannel channel;
+    private final SymbolTable table;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final Map<String, Integer> strings = new HashMap<>();
+    private int[] symbols = new int[0];
+    private int poolSize;
+    private int offset;
+    private int row;
+    private int col;
+
+    public TokenStreamWriter(OutputStream out, SymbolTable table) throws IOException {
+        this(Channels.newChannel(out), table);
+    }
+
+    public TokenStreamWriter(WritableByteChannel channel, SymbolTable table) throws IOException {
+        this.channel = channel;
+        this.table = table;
+        buffer.putInt(MAGIC);
+    }
+
+    public void write(TokenStream tokens) throws IOException {
+        if (tokens.hasLines()) {
+            lines(tokens.lines());
+        }
+
+        var cursor = tokens.cursor();
+        while (cursor.next()) {
+            var end = cursor.offset() + cursor.length();
+            token(cursor.type(), cursor.offset(), cursor.length(), cursor.symbol(), cursor.trailing() - end);
+        }
+    }
+
+    public void write(List<InvalidToken> invalid) throws IOException {
+        for (var token: invalid) {
+            invalid(token);
+        }
+    }
+
+    // The line starts as deltas, written before the tokens so their rows and columns need no source
+    public void lines(LineIndex lines) throws IOException {
+        ensure(2 * MAX_VARINT_BYTES);
+        putVarint(LINES);
+        putVarint(lines.size());
+
+        var previous = 0;
+        for (int row = 0; row < lines.size(); row++) {
+            ensure(MAX_VARINT_BYTES);
+            putVarint(lines.start(row) - previous);
+            previous = lines.start(row);
+        }
+    }
+
+    // The offset is a zigzag delta to the previous token
+    public void token(TokenType type, int offset, int length, int symbol) throws IOException {
+        ensure(4 * MAX_VARINT_BYTES);
+        putVarint(TOKEN + type.ordinal());
+        putVarint(zigzag(offset - this.offset));
+        putVarint(length);
+        putSymbol(symbol);
+
+        this.offset = offset;
+    }
+
+    // Attached trailing trivia go to a TRAILING record with their length in front of the token
+    public void token(TokenType type, int offset, int length, int symbol, int trailing) throws IOException {
+        if (trailing != 0) {
+            ensure(2 * MAX_VARINT_BYTES);
+            putVarint(TRAILING);
+            putVarint(trailing);
+        }
+
+        token(type, offset, length, symbol);
+    }
+
+    // Rows and columns are deltas to the previous invalid token, the column is absolute when the row changes
+    public void invalid(InvalidToken token) throws IOException {
+        ensure(3 * MAX_VARINT_BYTES);
+        putVarint(INVALID);
+        putPosition(token.getRow(), token.getCol());
+        putString(token.getValue());
+        putString(token.getMessage());
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        ensure(1);
+        putVarint(END);
+        flush();
+        channel.close();
+    }
+
+    private void putPosition(int row, int col) {
+        var rowDelta = row - this.row;
+        putVarint(zigzag(rowDelta));
+        putVarint(rowDelta == 0 ? zigzag(col - this.col) : col);
+
+        this.row = row;
+        this.col = col;
+    }
+
+    // Symbols are pooled by their id in the table, other strings by value
+    private void putSymbol(int symbol) throws IOException {
+        if (symbol >= symbols.length) {
+            var length = symbols.length;
+            symbols = Arrays.copyOf(symbols, Math.max(symbol + 1, length * 2));
+        }
+
+        if (symbols[symbol] != 0) {
+            putVarint(symbols[symbol]);
+            return;
+        }
+
+        symbols[symbol] = ++poolSize;
+        putLiteral(table.get(symbol));
+    }
+
+    private void putString(String value) throws IOException {
+        var id = strings.get(value);
+        if (id != null) {
+            ensure(MAX_VARINT_BYTES);
+            putVarint(id);
+            return;
+        }
+
+        strings.put(value, ++poolSize);
+        putLiteral(value);
+    }
+
+    // A string reference is the pool id + 1, or 0 followed by the UTF-8 literal the first time it is seen
+    private void putLiteral(String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensure(2 * MAX_VARINT_BYTES);
+        putVarint(0);
+        putVarint(bytes.length);
+
+        if (bytes.length > buffer.remaining()) {
+            flush();
+            if (bytes.length > buffer.capacity()) {
+                var wrapped = ByteBuffer.wrap(bytes);
+                while (wrapped.hasRemaining()) {
+                    channel.write(wrapped);
+                }
+                return;
+            }
+        }
+
+        buffer.put(bytes);
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void putVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+}
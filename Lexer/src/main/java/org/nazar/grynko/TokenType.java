@@ -4,7 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 @AllArgsConstructor
 @Getter
@@ -174,13 +175,27 @@ public enum TokenType {
     RIGHT_CURLY_BRACE ("}"),
     TYPE_DECLARATION("type_declaration");
 
+    private static final Map<String, TokenType> BY_VALUE = new HashMap<>();
+
+    static {
+        for (var type: values()) {
+            BY_VALUE.putIfAbsent(type.value, type);
+        }
+    }
+
     private String value;
 
+    public boolean isTrivia() {
+        return this == WHITE_SPACE || this == TAB || this == SINGLE_LINE_COMMENT || this == MULTILINE_COMMENT;
+    }
+
     public static TokenType getByValue(String val) {
-        return Arrays.stream(TokenType.values())
-                .filter(type -> type.value().equals(val))
-                .findAny()
-                .orElseThrow(() -> new IllegalArgumentException("Illegal token: " + val));
+        var type = BY_VALUE.get(val);
+        if (type == null) {
+            throw new IllegalArgumentException("Illegal token: " + val);
+        }
+
+        return type;
     }
 
 }
@@ -2,23 +2,55 @@ package org.nazar.grynko.automate;
 
 import org.nazar.grynko.TokenType;
 
-public record Automate(AutomateState root) {
+import java.util.LinkedHashMap;
+import java.util.Map;
 
-    public TokenType getType(String code) {
-        var pos = 0;
-        var letter = code.charAt(pos);
-        var length = code.length();
-        var node = root;
+// Flat DFA: transitions[state * ALPHABET_SIZE + letter] holds the next state, 0 means there is no transition
+// (the root state 0 is never a target). accepts[state] holds the type recognized in that state.
+public record Automate(int[] transitions, TokenType[] accepts) implements TokenRecognizer {
 
-        while (node.nextStates().containsKey(letter)) {
-            node = node.nextStates().get(letter);
-            pos++;
+    public static final int ALPHABET_SIZE = 128;
+    public static final int ROOT = 0;
 
-            if (pos >= length) break;
-            letter = code.charAt(pos);
+    @Override
+    public TokenType getType(CharSequence src, int from, int to) {
+        var state = ROOT;
+
+        for (int pos = from; pos < to; pos++) {
+            var letter = src.charAt(pos);
+            if (letter >= ALPHABET_SIZE) {
+                return TokenType.INVALID;
+            }
+
+            state = transitions[state * ALPHABET_SIZE + letter];
+            if (state == ROOT) {
+                return TokenType.INVALID;
+            }
         }
 
-        return pos >= length ? node.type() : TokenType.INVALID;
+        return accepts[state];
+    }
+
+    // The recognized words in lexicographic order
+    public Map<String, TokenType> words() {
+        var words = new LinkedHashMap<String, TokenType>();
+        collect(ROOT, new StringBuilder(), words);
+        return words;
+    }
+
+    private void collect(int state, StringBuilder word, Map<String, TokenType> words) {
+        if (accepts[state] != TokenType.INVALID) {
+            words.put(word.toString(), accepts[state]);
+        }
+
+        for (char letter = 0; letter < ALPHABET_SIZE; letter++) {
+            var next = transitions[state * ALPHABET_SIZE + letter];
+            if (next != ROOT) {
+                word.append(letter);
+                collect(next, word, words);
+                word.setLength(word.length() - 1);
+            }
+        }
     }
 
 }
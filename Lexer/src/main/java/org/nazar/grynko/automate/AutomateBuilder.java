@@ -3,10 +3,14 @@ package org.nazar.grynko.automate;
 import org.nazar.grynko.TokenType;
 import org.nazar.grynko.TokenPair;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 
+import static org.nazar.grynko.automate.Automate.ALPHABET_SIZE;
+
 public class AutomateBuilder {
 
     public static Automate build(List<String> tokenValues) {
@@ -20,7 +24,7 @@ public class AutomateBuilder {
         var root = new AutomateState();
         build(root, tokens, 0);
 
-        return new Automate(root);
+        return compile(root);
     }
 
     private static void build (AutomateState root, List<TokenPair> tokens, int depth) {
@@ -41,7 +45,7 @@ public class AutomateBuilder {
 
             for (var token: nodes.get(key)) {
                 if (token.value().length() - 1 == depth) {
-                    node.type(TokenType.getByValue(token.value()));
+                    node.type(token.type());
                 }
             }
 
@@ -49,4 +53,44 @@ public class AutomateBuilder {
         }
     }
 
+    // Numbers the trie nodes in BFS order (root gets 0) and flattens them into the transition table
+    private static Automate compile(AutomateState root) {
+        var ids = new IdentityHashMap<AutomateState, Integer>();
+        var order = new ArrayList<AutomateState>();
+        var queue = new ArrayDeque<AutomateState>();
+
+        ids.put(root, 0);
+        order.add(root);
+        queue.add(root);
+
+        while (!queue.isEmpty()) {
+            var node = queue.poll();
+
+            for (var next: node.nextStates().values()) {
+                ids.put(next, order.size());
+                order.add(next);
+                queue.add(next);
+            }
+        }
+
+        var transitions = new int[order.size() * ALPHABET_SIZE];
+        var accepts = new TokenType[order.size()];
+
+        for (int state = 0; state < order.size(); state++) {
+            var node = order.get(state);
+            accepts[state] = node.type();
+
+            for (var entry: node.nextStates().entrySet()) {
+                char letter = entry.getKey();
+                if (letter >= ALPHABET_SIZE) {
+                    throw new IllegalArgumentException("Non-ASCII character in token: " + letter);
+                }
+
+                transitions[state * ALPHABET_SIZE + letter] = ids.get(entry.getValue());
+            }
+        }
+
+        return new Automate(transitions, accepts);
+    }
+
 }
@@ -0,0 +1,83 @@
+package org.nazar.grynko.automate;
+
+import org.nazar.grynko.TokenType;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.nazar.grynko.automate.Automate.ALPHABET_SIZE;
+
+// Binary form of a compiled automate. Only the existing transitions of every state are written,
+// reading restores the flat tables without building the trie again.
+// Token types are stored by ordinal, the image records a fingerprint of the TokenType names to reject
+// images written by another version of the enum.
+public final class AutomateImage {
+
+    private static final TokenType[] TYPES = TokenType.values();
+    public static final int TYPES_FINGERPRINT = fingerprint();
+
+    private AutomateImage() {
+    }
+
+    public static void write(Automate automate, DataOutputStream out) throws IOException {
+        var accepts = automate.accepts();
+        var transitions = automate.transitions();
+
+        out.writeInt(accepts.length);
+        for (int state = 0; state < accepts.length; state++) {
+            out.writeShort(accepts[state].ordinal());
+
+            var base = state * ALPHABET_SIZE;
+            var edges = 0;
+            for (int letter = 0; letter < ALPHABET_SIZE; letter++) {
+                if (transitions[base + letter] != 0) edges++;
+            }
+
+            out.writeByte(edges);
+            for (int letter = 0; letter < ALPHABET_SIZE; letter++) {
+                if (transitions[base + letter] != 0) {
+                    out.writeByte(letter);
+                    out.writeInt(transitions[base + letter]);
+                }
+            }
+        }
+    }
+
+    public static Automate read(ByteBuffer in) throws IOException {
+        // Every state takes at least its accepted type and edge count, so a larger count can't be read
+        var states = in.getInt();
+        if (states <= 0 || states > in.remaining() / 3) {
+            throw new IOException("Broken automate image");
+        }
+
+        var transitions = new int[states * ALPHABET_SIZE];
+        var accepts = new TokenType[states];
+
+        for (int state = 0; state < states; state++) {
+            accepts[state] = TYPES[in.getShort()];
+
+            var edges = in.get() & 0xFF;
+            for (int i = 0; i < edges; i++) {
+                var letter = in.get() & 0xFF;
+                var target = in.getInt();
+                if (letter >= ALPHABET_SIZE || target <= 0 || target >= states) {
+                    throw new IOException("Broken automate image");
+                }
+
+                transitions[state * ALPHABET_SIZE + letter] = target;
+            }
+        }
+
+        return new Automate(transitions, accepts);
+    }
+
+    private static int fingerprint() {
+        var hash = 0;
+        for (var type: TYPES) {
+            hash = 31 * hash + type.name().hashCode();
+        }
+        return hash;
+    }
+
+}
@@ -0,0 +1,105 @@
+package org.nazar.grynko.automate;
+
+import org.nazar.grynko.TokenType;
+import org.nazar.grynko.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Perfect hash over the words of an automate: the slot of a word depends only on its length and its first,
+// middle and last characters, a lookup is one multiplication and one equality check.
+// The seed is searched at build time, the table grows until a seed without collisions is found.
+public final class KeywordHash implements TokenRecognizer {
+
+    private static final int SEED_ATTEMPTS = 1 << 16;
+    private static final int MAX_BITS = 16;
+
+    private final String[] words;
+    private final TokenType[] types;
+    private final int seed;
+    private final int shift;
+    private final int minLength;
+    private final int maxLength;
+
+    private KeywordHash(String[] words, TokenType[] types, int seed, int shift, int minLength, int maxLength) {
+        this.words = words;
+        this.types = types;
+        this.seed = seed;
+        this.shift = shift;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+    }
+
+    public static KeywordHash build(Automate automate) {
+        var entries = automate.words();
+        var words = new ArrayList<>(entries.keySet());
+        var types = new ArrayList<>(entries.values());
+
+        var minLength = Integer.MAX_VALUE;
+        var maxLength = 0;
+        for (var word: words) {
+            minLength = Math.min(minLength, word.length());
+            maxLength = Math.max(maxLength, word.length());
+        }
+
+        var bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, words.size() - 1)));
+        var random = new Random(0);
+
+        for (; bits <= MAX_BITS; bits++) {
+            var shift = 32 - bits;
+            for (int attempt = 0; attempt < SEED_ATTEMPTS; attempt++) {
+                var seed = random.nextInt() | 1;
+                var table = place(words, types, seed, shift);
+                if (table != null) {
+                    return new KeywordHash(table.words, table.types, seed, shift, minLength, maxLength);
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("Words can not be told apart by length, first, middle and last character");
+    }
+
+    @Override
+    public TokenType getType(CharSequence src, int from, int to) {
+        var length = to - from;
+        if (length < minLength || length > maxLength) {
+            return TokenType.INVALID;
+        }
+
+        var slot = slot(length, src.charAt(from), src.charAt(from + length / 2), src.charAt(to - 1), seed, shift);
+        var word = words[slot];
+        if (word == null || !Validator.regionEquals(src, from, to, word)) {
+            return TokenType.INVALID;
+        }
+
+        return types[slot];
+    }
+
+    private static Table place(List<String> words, List<TokenType> types, int seed, int shift) {
+        var table = new Table(new String[1 << (32 - shift)], new TokenType[1 << (32 - shift)]);
+
+        for (int i = 0; i < words.size(); i++) {
+            var word = words.get(i);
+            var length = word.length();
+            var slot = slot(length, word.charAt(0), word.charAt(length / 2), word.charAt(length - 1), seed, shift);
+            if (table.words[slot] != null) {
+                return null;
+            }
+
+            table.words[slot] = word;
+            table.types[slot] = types.get(i);
+        }
+
+        return table;
+    }
+
+    private static int slot(int length, char first, char middle, char last, int seed, int shift) {
+        var key = length * 0x9E3779B1 ^ (first << 16 | last) ^ middle * 0x85EBCA6B;
+        return (key * seed) >>> shift;
+    }
+
+    private record Table(String[] words, TokenType[] types) {
+    }
+
+}
@@ -0,0 +1,14 @@
+package org.nazar.grynko.automate;
+
+import org.nazar.grynko.TokenType;
+
+// Classifies a whole lexeme, INVALID means it is not one of the recognized words
+public interface TokenRecognizer {
+
+    TokenType getType(CharSequence src, int from, int to);
+
+    default TokenType getType(String code) {
+        return getType(code, 0, code.length());
+    }
+
+}
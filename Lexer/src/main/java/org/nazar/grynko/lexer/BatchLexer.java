@@ -0,0 +1,137 @@
+package org.nazar.grynko.lexer;
+
+import lombok.SneakyThrows;
+import org.nazar.grynko.SymbolTable;
+import org.nazar.grynko.TokenStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// Lexes many files in parallel. The config is immutable and shared by all workers,
+// every file gets its own Lexer and therefore its own result.
+public class BatchLexer {
+
+    private static final String SOURCE_EXTENSION = ".swift";
+    private static final int FILES_AHEAD_PER_THREAD = 4;
+
+    private final LexerConfig config;
+    private final ForkJoinPool pool;
+    private TokenCache cache;
+
+    public BatchLexer(List<String> operators, List<String> keywords, List<String> punctuations) {
+        this(operators, keywords, punctuations, ForkJoinPool.commonPool());
+    }
+
+    public BatchLexer(List<String> operators, List<String> keywords, List<String> punctuations, ForkJoinPool pool) {
+        this(LexerConfig.build(operators, keywords, punctuations), pool);
+    }
+
+    public BatchLexer(LexerConfig config) {
+        this(config, ForkJoinPool.commonPool());
+    }
+
+    public BatchLexer(LexerConfig config, ForkJoinPool pool) {
+        this.config = config;
+        this.pool = pool;
+    }
+
+    // Directories are searched recursively for .swift files, results keep the order of the given paths
+    public List<LexerResult> lex(List<Path> paths) {
+        var results = new ArrayList<LexerResult>();
+        lex(paths, results::add);
+        return results;
+    }
+
+    // Results are passed to the consumer in the order of the given paths as soon as they are done. Only a few files
+    // per pool thread are lexed ahead of the consumer, so memory does not grow with the batch.
+    public void lex(List<Path> paths, Consumer<LexerResult> consumer) {
+        var files = new ArrayList<Path>();
+        for (var path: paths) {
+            files.addAll(collectFiles(path));
+        }
+
+        var ahead = pool.getParallelism() * FILES_AHEAD_PER_THREAD;
+        var pending = new ArrayDeque<ForkJoinTask<LexerResult>>();
+        var next = 0;
+
+        while (next < files.size() || !pending.isEmpty()) {
+            while (next < files.size() && pending.size() < ahead) {
+                var file = files.get(next++);
+                pending.add(pool.submit(() -> lex(file)));
+            }
+
+            consumer.accept(pending.poll().join());
+        }
+    }
+
+    // With a cache the file is read once, hashed and only lexed on a miss
+    public void setCache(TokenCache cache) {
+        this.cache = cache;
+    }
+
+    public LexerResult lex(Path file) {
+        if (cache != null) {
+            return lexCached(file);
+        }
+
+        var lexer = new Lexer(config);
+        var parsed = lexer.parse(file.toString());
+
+        return new LexerResult(file, parsed, lexer.getTokenStream(), lexer.getSymbolTable(), lexer.getInvalid());
+    }
+
+    // An unreadable file is not parsed, like with lex(path), and a failed store only costs the next run a miss
+    private LexerResult lexCached(Path file) {
+        byte[] content;
+        CharBuffer source;
+        try {
+            content = Files.readAllBytes(file);
+            source = SourceReader.decode(ByteBuffer.wrap(content));
+        } catch (IOException e) {
+            return new LexerResult(file, false, new TokenStream(), new SymbolTable(), new ArrayList<>());
+        }
+        var key = cache.key(content);
+
+        var cached = cache.load(file, key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        var lexer = new Lexer(config);
+        var parsed = lexer.parseSource(source);
+
+        var result = new LexerResult(file, parsed, lexer.getTokenStream(), lexer.getSymbolTable(), lexer.getInvalid());
+        try {
+            cache.store(key, result);
+        } catch (IOException e) {
+            System.err.println("Warning: " + file + " wasn't cached: " + e.getMessage());
+        }
+
+        return result;
+    }
+
+    @SneakyThrows
+    private List<Path> collectFiles(Path path) {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+
+        try (var walk = Files.walk(path)) {
+            return walk.filter(Files::isRegularFile)
+                    .filter(file -> file.toString().endsWith(SOURCE_EXTENSION))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+}
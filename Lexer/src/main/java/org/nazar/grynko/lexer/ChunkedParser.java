@@ -0,0 +1,122 @@
+package org.nazar.grynko.lexer;
+
+import org.nazar.grynko.LineIndex;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+// Every chunk is lexed speculatively as if it started in the DEFAULT state. Chunks are then merged in order,
+// and a chunk whose predecessor ended inside a multiline comment or string is lexed again from that state.
+class ChunkedParser {
+
+    static final int CHUNK_LINES = 4096;
+
+    private final Lexer target;
+    private final CharSequence source;
+    private final int chunkLines;
+
+    ChunkedParser(Lexer target, CharSequence source, int chunkLines) {
+        this.target = target;
+        this.source = source;
+        this.chunkLines = chunkLines;
+    }
+
+    boolean parse(ForkJoinPool pool) {
+        var chunks = split();
+
+        if (chunks.size() == 1) {
+            var chunk = chunks.get(0);
+            chunk.lex(null);
+            chunk.finish();
+
+            target.append(chunk.lexer);
+            return !chunk.failed;
+        }
+
+        pool.submit(() -> chunks.parallelStream().forEach(chunk -> chunk.lex(null))).join();
+
+        Lexer previous = null;
+        for (int i = 0; i < chunks.size(); i++) {
+            var chunk = chunks.get(i);
+
+            if (previous != null && !previous.isClean()) {
+                chunk.lex(previous);
+            }
+            if (i == chunks.size() - 1) {
+                chunk.finish();
+            }
+
+            target.append(chunk.lexer);
+            if (chunk.failed) {
+                return false;
+            }
+
+            previous = chunk.lexer;
+        }
+
+        return true;
+    }
+
+    private ArrayList<Chunk> split() {
+        var chunks = new ArrayList<Chunk>();
+        int start = 0, row = 0, chunkStart = 0, chunkRow = 0;
+
+        while (start < source.length()) {
+            if (row - chunkRow == chunkLines) {
+                chunks.add(new Chunk(chunkRow, chunkStart, start));
+                chunkStart = start;
+                chunkRow = row;
+            }
+
+            start = LineIndex.nextLine(source, LineIndex.lineEnd(source, start));
+            row++;
+        }
+
+        chunks.add(new Chunk(chunkRow, chunkStart, source.length()));
+        return chunks;
+    }
+
+    private class Chunk {
+
+        private final int row;
+        private final int from;
+        private final int to;
+        private Lexer lexer;
+        private boolean failed;
+
+        private Chunk(int row, int from, int to) {
+            this.row = row;
+            this.from = from;
+            this.to = to;
+        }
+
+        private void lex(Lexer previous) {
+            lexer = target.newChunkLexer(row);
+            failed = false;
+
+            if (previous != null) {
+                lexer.resume(previous);
+            }
+
+            try {
+                lexer.processLines(source, from, to);
+            } catch (Exception e) {
+                failed = true;
+            }
+        }
+
+        private void finish() {
+            if (failed) {
+                return;
+            }
+
+            try {
+                lexer.finish();
+            } catch (Exception e) {
+                failed = true;
+            }
+        }
+
+    }
+
+}
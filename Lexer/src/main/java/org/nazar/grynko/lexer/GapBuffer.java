@@ -0,0 +1,85 @@
+package org.nazar.grynko.lexer;
+
+import org.nazar.grynko.GapArrays;
+
+import java.util.Arrays;
+
+// Source of an edited lexer, the chars have a gap at the last edit so an edit only moves the chars between it and the
+// previous one. The text changes in place, views of it are only valid until the next edit.
+final class GapBuffer extends GapArrays implements CharSequence {
+
+    private static final int INITIAL_GAP = 1024;
+
+    private char[] chars;
+
+    GapBuffer(CharSequence source) {
+        super(0);
+        chars = new char[source.length() + INITIAL_GAP];
+        if (source instanceof String) {
+            ((String) source).getChars(0, source.length(), chars, 0);
+        } else {
+            for (int i = 0; i < source.length(); i++) {
+                chars[i] = source.charAt(i);
+            }
+        }
+
+        size = source.length();
+        gap = size;
+        gapLength = INITIAL_GAP;
+    }
+
+    // Replaces the chars [start, end) with text
+    void replace(int start, int end, CharSequence text) {
+        var slot = splice(start, end, text.length());
+        for (int i = 0; i < text.length(); i++) {
+            chars[slot + i] = text.charAt(i);
+        }
+    }
+
+    @Override
+    public int length() {
+        return size;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return chars[index(index)];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        var sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            sb.append(charAt(i));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(size)
+                .append(chars, 0, gap)
+                .append(chars, gap + gapLength, size - gap)
+                .toString();
+    }
+
+    @Override
+    protected int capacity() {
+        return chars.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+        chars = Arrays.copyOf(chars, capacity);
+    }
+
+    @Override
+    protected void copy(int from, int to, int length) {
+        System.arraycopy(chars, from, chars, to, length);
+    }
+
+    @Override
+    protected void shift(int from, int to, int sign) {
+    }
+
+}
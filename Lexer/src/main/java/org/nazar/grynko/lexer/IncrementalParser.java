@@ -0,0 +1,149 @@
+package org.nazar.grynko.lexer;
+
+import org.nazar.grynko.InvalidList;
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.LineCursor;
+import org.nazar.grynko.LineIndex;
+import org.nazar.grynko.TokenStream;
+
+import java.util.ArrayList;
+import java.util.Stack;
+
+// Re-lexes an edited source from the closest clean line before the edit to the first line where both lexings agree
+class IncrementalParser {
+
+    private final Lexer lexer;
+
+    IncrementalParser(Lexer lexer) {
+        this.lexer = lexer;
+    }
+
+    boolean relex(TextEdit edit) {
+        var checkpoints = lexer.getCheckpoints();
+        var source = lexer.getSource();
+        if (checkpoints == null || source == null) {
+            throw new IllegalStateException("Lexer has no checkpoints of a parsed source");
+        }
+
+        var editStart = offset(checkpoints, source, edit.startRow(), edit.startCol());
+        var editEnd = offset(checkpoints, source, edit.endRow(), edit.endCol());
+        if (editEnd < editStart) {
+            throw new IllegalArgumentException("Edit ends before it starts: " + edit);
+        }
+
+        // The first edit copies the source, later ones change the copy in place
+        var text = source instanceof GapBuffer ? (GapBuffer) source : new GapBuffer(source);
+        var oldLength = text.length();
+        text.replace(editStart, editEnd, edit.text());
+        var offsetShift = text.length() - oldLength;
+
+        var tokens = lexer.getTokenStream();
+        var invalid = lexer.getInvalid() instanceof InvalidList
+                ? (InvalidList) lexer.getInvalid()
+                : new InvalidList(lexer.getInvalid());
+
+        // After a failed parse the old tokens can't be trusted, so everything is lexed again
+        var canReuse = lexer.isParsed();
+        var restartRow = canReuse ? Math.min(edit.startRow(), checkpoints.size() - 1) : 0;
+        while (restartRow > 0 && !checkpoints.isClean(restartRow)) {
+            restartRow--;
+        }
+
+        int restartOffset = 0, tokenFrom = tokens.size(), invalidFrom = invalid.size();
+        if (restartRow >= 0 && restartRow < checkpoints.size()) {
+            restartOffset = checkpoints.offset(restartRow);
+            tokenFrom = checkpoints.token(restartRow);
+            invalidFrom = checkpoints.invalid(restartRow);
+        } else {
+            restartRow = 0;
+        }
+
+        var oldState = lexer.getState();
+        var oldCursor = lexer.getCursor();
+        var newTokens = new TokenStream();
+        var newInvalid = new ArrayList<InvalidToken>();
+        var newLines = new LineCheckpoints();
+
+        lexer.setSource(text);
+        lexer.setState(LexerState.DEFAULT);
+        lexer.setCache(new Stack<>());
+        lexer.setCursor(new LineCursor().row(restartRow));
+        lexer.setTokenStream(newTokens);
+        lexer.setInvalid(newInvalid);
+        lexer.setCheckpoints(newLines);
+
+        var row = restartRow;
+        var oldRow = -1;
+        var failed = false;
+        try {
+            var start = restartOffset;
+
+            while (start < text.length()) {
+                if (canReuse && start - offsetShift >= editEnd && lexer.isClean()) {
+                    var candidate = checkpoints.find(start - offsetShift);
+                    if (candidate >= restartRow && checkpoints.isClean(candidate)) {
+                        oldRow = candidate;
+                        break;
+                    }
+                }
+
+                var end = LineIndex.lineEnd(text, start);
+                lexer.processLine(text, start, end);
+                start = LineIndex.nextLine(text, end);
+                row++;
+            }
+
+            if (oldRow < 0) {
+                lexer.finish();
+            }
+        } catch (Exception e) {
+            failed = true;
+        }
+
+        var rowShift = oldRow >= 0 ? row - oldRow : 0;
+        var tokenTo = oldRow >= 0 ? checkpoints.token(oldRow) : tokens.size();
+        var invalidTo = oldRow >= 0 ? checkpoints.invalid(oldRow) : invalid.size();
+        var lineTo = oldRow >= 0 ? oldRow : checkpoints.size();
+
+        // The old tokens after lineTo are kept and moved by the edit. Each store keeps a gap at the last edit,
+        // so only what lies between two edits is moved in memory.
+        checkpoints.replace(restartRow, lineTo, newLines, tokenFrom, invalidFrom, offsetShift,
+                newTokens.size() - (tokenTo - tokenFrom), newInvalid.size() - (invalidTo - invalidFrom));
+        tokens.replace(tokenFrom, tokenTo, newTokens, offsetShift);
+        tokens.lines(checkpoints.lines());
+        invalid.replace(invalidFrom, invalidTo, newInvalid, rowShift);
+
+        lexer.setTokenStream(tokens);
+        lexer.setInvalid(invalid);
+        lexer.setCheckpoints(checkpoints);
+
+        if (oldRow >= 0) {
+            lexer.setState(oldState);
+            lexer.setCursor(new LineCursor()
+                    .line(text, oldCursor.start() + offsetShift, oldCursor.end() + offsetShift)
+                    .row(oldCursor.row() + rowShift)
+                    .col(oldCursor.col()));
+        }
+
+        lexer.setParsed(!failed);
+        return !failed;
+    }
+
+    private static int offset(LineCheckpoints checkpoints, CharSequence source, int row, int col) {
+        if (row == checkpoints.size() && col == 0) {
+            return source.length();
+        }
+        if (row < 0 || row >= checkpoints.size()) {
+            throw new IllegalArgumentException("Row is out of the source: " + row);
+        }
+
+        var start = checkpoints.offset(row);
+        var end = LineIndex.lineEnd(source, start);
+        if (col < 0 || start + col > end) {
+            throw new IllegalArgumentException("Column is out of the line: [" + row + ":" + col + "]");
+        }
+
+        return start + col;
+    }
+
+}
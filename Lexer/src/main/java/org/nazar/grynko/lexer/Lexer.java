@@ -5,12 +5,15 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import org.nazar.grynko.*;
 import org.nazar.grynko.automate.Automate;
-import org.nazar.grynko.automate.AutomateBuilder;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.*;
+import java.nio.CharBuffer;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.function.Predicate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.nazar.grynko.Validator.*;
 import static org.nazar.grynko.lexer.LexerState.*;
@@ -19,226 +22,373 @@ import static org.nazar.grynko.lexer.LexerState.*;
 @Setter
 public class Lexer {
 
-    private final Automate operatorsAutomate;
-    private final Automate keywordsAutomate;
-    private final Automate punctuationsAutomate;
+    private final LexerConfig config;
+
+    private final TokenCollector collector;
 
     private LexerState state;
-    private List<Token> tokens;
-    private List<InvalidToken> invalid;
+    // Unless trivia are kept, whitespace and comments are not tokens and get no symbols
+    private TriviaMode triviaMode = TriviaMode.KEEP;
+    private TokenSink sink;
     private LineCursor cursor;
-    private List<String> symbolTable;
+    private SymbolTable symbolTable;
     private Stack<LexerCache> cache;
+    private CharSequence source;
+    private LineCheckpoints checkpoints;
+    private boolean parsed;
 
     public Lexer(List<String> operators, List<String> keywords, List<String> punctuations) {
-        operatorsAutomate = AutomateBuilder.build(operators);
-        keywordsAutomate = AutomateBuilder.build(keywords);
-        punctuationsAutomate = AutomateBuilder.build(punctuations);
+        this(LexerConfig.build(operators, keywords, punctuations));
+    }
+
+    public Lexer(Automate operatorsAutomate, Automate keywordsAutomate, Automate punctuationsAutomate) {
+        this(new LexerConfig(operatorsAutomate, keywordsAutomate, punctuationsAutomate));
+    }
+
+    public Lexer(LexerConfig config) {
+        this.config = config;
 
         state = LexerState.DEFAULT;
-        tokens = new ArrayList<>();
-        invalid = new ArrayList<>();
-        symbolTable = new ArrayList<>();
+        collector = new TokenCollector();
+        sink = collector;
+        symbolTable = new SymbolTable();
         cache = new Stack<>();
     }
 
+    public List<Token> getTokens() {
+        return collector.getTokens().asList();
+    }
+
+    public TokenStream getTokenStream() {
+        return collector.getTokens();
+    }
+
+    public void setTokenStream(TokenStream tokenStream) {
+        collector.setTokens(tokenStream);
+    }
+
+    public List<InvalidToken> getInvalid() {
+        return collector.getInvalid();
+    }
+
+    public void setInvalid(List<InvalidToken> invalid) {
+        collector.setInvalid(invalid);
+    }
+
+    // Tokens go to the collector unless another sink is set. With another sink getTokens() and getInvalid()
+    // stay empty, and relex, retokenize, parseParallel and tokenize are not available.
+    public void setSink(TokenSink sink) {
+        this.sink = sink == null ? collector : sink;
+    }
+
+    public boolean isCollecting() {
+        return sink == collector;
+    }
+
+    // Forgets the last source and its results but keeps the allocated buffers, the sink and checkpoint recording
+    public void reset() {
+        cursor = null;
+        start(null);
+    }
+
+    // Line checkpoints are needed by relex and retokenize and are not recorded by default
+    public void setRecordCheckpoints(boolean record) {
+        checkpoints = record ? new LineCheckpoints() : null;
+    }
+
+    // Lexes the lines [fromRow, toRow) of the last parsed source again, starting from the checkpoint of fromRow.
+    // The results of the lexer are not changed. A multiline token opened before fromRow starts at fromRow,
+    // and regions still open at toRow are not reported.
+    public TokenRange retokenize(int fromRow, int toRow) {
+        requireCollector();
+        if (checkpoints == null || source == null) {
+            throw new IllegalStateException("Lexer has no checkpoints of a parsed source");
+        }
+        if (fromRow < 0 || fromRow > toRow || toRow > checkpoints.size()) {
+            throw new IllegalArgumentException("Rows are out of the source: [" + fromRow + ", " + toRow + ")");
+        }
+
+        var lexer = newChunkLexer(fromRow);
+        lexer.symbolTable = new SymbolTable(symbolTable);
+        lexer.checkpoints = null;
+        lexer.getTokenStream().lines(getTokenStream().lines());
+        // An empty range may start after the last line, where there is no checkpoint
+        if (fromRow == toRow) {
+            return new TokenRange(fromRow, toRow, lexer.getTokenStream(), lexer.getInvalid(), lexer.symbolTable);
+        }
+        lexer.state = checkpoints.state(fromRow);
+
+        var from = fromRow < checkpoints.size() ? checkpoints.offset(fromRow) : source.length();
+        for (int level = 0; level < checkpoints.cacheDepth(fromRow); level++) {
+            var kind = checkpoints.cacheKind(fromRow, level);
+            lexer.cache.push(new LexerCache(kind, fromRow, 0, from));
+        }
+
+        var to = toRow < checkpoints.size() ? checkpoints.offset(toRow) : source.length();
+        lexer.processLines(source, from, to);
+
+        return new TokenRange(fromRow, toRow, lexer.getTokenStream(), lexer.getInvalid(), lexer.symbolTable);
+    }
+
     public boolean parse(String path) {
+        CharBuffer source;
         try {
-            parseInternal(path);
+            source = SourceReader.read(Path.of(path));
         } catch (Exception e) {
             return false;
         }
 
-        return true;
+        return parseSource(source);
     }
 
-    @SneakyThrows
-    private void parseInternal(String path) {
-        var reader = new BufferedReader(new FileReader(path));
+    public boolean parseSource(CharSequence source) {
+        start(source);
 
-        String line;
-        cursor = new LineCursor();
-        while ((line = reader.readLine()) != null) {
-            cursor.line(line)
-                    .col(0);
+        try {
+            cursor = new LineCursor();
+            processLines(source, 0, source.length());
+            finish();
+        } catch (Exception e) {
+            return false;
+        }
 
-            while (!cursor.isEnded()) {
-                processToken();
-            }
+        parsed = true;
+        return true;
+    }
 
-            cursor.row(cursor.row() + 1);
-        }
+    // Applies the edit to the last parsed source and lexes only the lines it affects, requires checkpoints
+    public boolean relex(TextEdit edit) {
+        requireCollector();
+        return new IncrementalParser(this).relex(edit);
+    }
 
-        if (state != DEFAULT) {
-            errorAfterParse();
-        }
+    public boolean parseParallel(String path, ForkJoinPool pool) {
+        return parseParallel(path, pool, ChunkedParser.CHUNK_LINES);
     }
 
-    private void errorAfterParse() {
-        if (!cache.isEmpty()) {
-            processCacheErrorAfterParse();
+    // Lexes line-aligned chunks of the file in parallel, the result is identical to parse(path)
+    public boolean parseParallel(String path, ForkJoinPool pool, int chunkLines) {
+        requireCollector();
+        CharBuffer source;
+        try {
+            source = SourceReader.read(Path.of(path));
+        } catch (Exception e) {
+            return false;
         }
+
+        start(source);
+        parsed = new ChunkedParser(this, source, chunkLines).parse(pool);
+        return parsed;
     }
 
-    private void processCacheErrorAfterParse() {
-        while(!cache.isEmpty()) {
-            var lexerCache = cache.pop();
-            int row = lexerCache.getRow(), col = lexerCache.getCol();
+    // Tokens are produced line by line while the stream is consumed. Only the tokens of the current line are
+    // buffered and getTokens() stays empty; invalid tokens are still collected in getInvalid().
+    // Token objects have no trivia, so attached trivia are dropped.
+    public Stream<Token> tokenize(Reader reader) {
+        requireCollector();
+        return tokenize(reader, collector::onInvalid);
+    }
 
-            if (lexerCache.getState() == MULTILINE_COMMENT) {
-                var message = String.format("Multiline comment on [%d:%d] wasn't closed", row, col);
-                processBadToken(message, 0);
-            } else if (lexerCache.getState() == MULTILINE_STRING) {
-                var message = String.format("Multiline string on [%d:%d] wasn't closed", row, col);
-                processBadToken(message, 0);
-            }
+    // Invalid tokens go to the consumer as their line is lexed instead of piling up in getInvalid()
+    public Stream<Token> tokenize(Reader reader, Consumer<InvalidToken> invalid) {
+        requireCollector();
+        var lines = new BufferedReader(reader);
+        var iterator = new TokenIterator(lines, invalid);
+        var spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> close(lines));
+    }
+
+    // Lexes the lines of source starting in [from, to), from has to be the start of a line
+    void processLines(CharSequence source, int from, int to) {
+        var start = from;
+
+        while (start < to) {
+            var end = LineIndex.lineEnd(source, start);
+            processLine(source, start, end);
+            start = LineIndex.nextLine(source, end);
         }
     }
 
-    private void processToken() {
-        if (state != DEFAULT) {
-            processNonDefaultMode();
-            return;
+    void processLine(CharSequence source, int start, int end) {
+        if (checkpoints != null) {
+            checkpoints.add(start, getTokenStream().size(), getInvalid().size(), state, cache);
         }
 
-        var symbol = cursor.nextChar();
+        cursor.line(source, start, end);
 
-        if (isWhitespace(symbol)) {
-            processWhitespace();
-            return;
-        } else if (isTab(symbol)) {
-            processTab();
-            return;
-        } else if (!cursor.isEnded(1) && isSingleLineCommentOpen(symbol, cursor.nextChar(1))) {
-            processSingleLineComment();
-            return;
-        } else if (!cursor.isEnded(1) && isMultilineCommentOpen(symbol, cursor.nextChar(1))) {
-            processMultilineComment();
-            return;
-        } else if (isDot(symbol)) {
-            processDot();
-            return;
-        } else if (isBackSlash(symbol)) {
-            processBackSlash();
-            return;
-        } else if (isDigit(symbol)) {
-            processNumber();
-            return;
-        } else if (isWord(symbol)) {
-            processWord();
-            return;
-        } else if (isPunctuation(symbol)) {
-            processPunctuation();
-            return;
-        } else if (isOperator(symbol)) {
-            processOperator();
-            return;
-        } else if (isDoubleQuote(symbol)) {
-            processDoubleQuote();
-            return;
-        } else if (isAt(symbol)) {
-            processTypeDeclaration();
-            return;
+        while (!cursor.isEnded()) {
+            processToken();
         }
 
-        processBadToken(cursor.nextChar());
+        sink.onLineEnd(cursor.row());
+        cursor.row(cursor.row() + 1);
     }
 
-    private void processBackSlash() {
-        state = BACK_SLASH;
-        addToken(TokenType.BACK_SLASh, 1);
-    }
-
-    private void processNonDefaultMode() {
-        if (state == MULTILINE_COMMENT) {
-            processMultilineComment();
-        } else if (state == MULTILINE_STRING) {
-            processMultilineString();
-        } else {
-            processBadToken(0);
+    void finish() {
+        if (state != DEFAULT) {
+            errorAfterParse();
         }
     }
 
-    private void processWhitespace() {
-        state = WHITE_SPACE;
+    Lexer newChunkLexer(int row) {
+        var lexer = new Lexer(config);
+        lexer.triviaMode = triviaMode;
+        lexer.cursor = new LineCursor();
+        lexer.cursor.row(row);
+
+        if (checkpoints != null) {
+            lexer.checkpoints = new LineCheckpoints();
+        }
 
-        int shift = read(Validator::isWhitespace, 0);
-        addToken(TokenType.WHITE_SPACE, shift);
+        return lexer;
     }
 
-    private void processTab() {
-        state = TAB;
+    // Continues in the multiline state the previous chunk ended with
+    void resume(Lexer previous) {
+        state = previous.state;
+        cache = new Stack<>();
 
-        int shift = read(Validator::isTab, 0);
-        addToken(TokenType.TAB, shift);
+        for (var lexerCache: previous.cache) {
+            cache.push(new LexerCache(lexerCache.getState(), lexerCache.getRow(), lexerCache.getCol(),
+                    lexerCache.getOffset()));
+        }
     }
 
-    private void processNumber() {
-        state = INTEGER;
+    boolean isClean() {
+        return state == DEFAULT && cache.isEmpty();
+    }
 
-        int shift = read(Validator::isDigit, 0);
+    // Appends the output of a chunk lexer, symbols are re-interned in order so their ids match a sequential parse
+    void append(Lexer chunk) {
+        var symbols = new int[chunk.symbolTable.size()];
+        for (int id = 0; id < symbols.length; id++) {
+            symbols[id] = symbolTable.intern(chunk.symbolTable.get(id));
+        }
 
-        if (!cursor.isEnded(shift) && isDot(cursor.nextChar(shift))) {
-            state = FLOAT;
-            shift++;
+        if (checkpoints != null) {
+            checkpoints.append(chunk.checkpoints, getTokenStream().size(), getInvalid().size());
         }
 
-        if (!cursor.isEnded(shift)) {
-            shift = read(Validator::isDigit, shift);
+        var chunkTokens = chunk.getTokenStream();
+        var tokens = chunkTokens.cursor();
+        while (tokens.next()) {
+            getTokenStream().add(tokens.type(), tokens.offset(), tokens.length(), symbols[tokens.symbol()]);
+
+            var trailing = chunkTokens.trailing(tokens.index());
+            if (trailing > tokens.offset() + tokens.length()) {
+                getTokenStream().trail(trailing);
+            }
         }
+        getInvalid().addAll(chunk.getInvalid());
 
-        if (cursor.isEnded(shift) || isEndOfToken(cursor.nextChar(shift))) {
-            var tokenType = state == INTEGER ? TokenType.INT : TokenType.FLOAT;
-            addToken(tokenType, shift);
+        state = chunk.state;
+        cache = chunk.cache;
+        cursor = chunk.cursor;
+    }
+
+    // Tokens are offsets into the source they were lexed from, so the results of the last source are dropped
+    private void start(CharSequence source) {
+        getTokenStream().clear();
+        getInvalid().clear();
+        symbolTable.clear();
+        cache.clear();
+        state = DEFAULT;
+
+        this.source = source;
+        parsed = false;
+        if (checkpoints != null) {
+            checkpoints.clear();
+            getTokenStream().lines(source == null ? null : checkpoints.lines());
         } else {
-            processBadToken(shift);
+            getTokenStream().lines(source == null ? null : new LineIndex(source));
         }
     }
 
-    private void processWord() {
-        state = IDENTIFIER;
+    @SneakyThrows
+    private void close(Reader reader) {
+        sink = collector;
+        reader.close();
+    }
 
-        int shift = read((Character c) -> !isEndOfToken(c), 0);
-        var col = cursor.col();
-        var word = cursor.line().substring(col, col + shift);
-        TokenType type;
+    private void errorAfterParse() {
+        if (!cache.isEmpty()) {
+            processCacheErrorAfterParse();
+        }
+    }
 
-        // Check if it is a "as"/"try" + ("?"/"!")
-        if (isAlphabeticOperator(word)) {
-            if (!cursor.isEnded(shift) && isCastOperator(cursor.nextChar(shift))) {
-                word += cursor.nextChar(shift);
-                shift++;
-            }
-            type = operatorsAutomate.getType(word);
-            if (type != TokenType.INVALID) {
-                state = OPERATOR;
-            }
-        } else {
-            type = keywordsAutomate.getType(word);
-            if (type != TokenType.INVALID) {
-                state = KEYWORD;
+    private void processCacheErrorAfterParse() {
+        while(!cache.isEmpty()) {
+            var lexerCache = cache.pop();
+            int row = lexerCache.getRow(), col = lexerCache.getCol();
+
+            if (lexerCache.getState() == MULTILINE_COMMENT) {
+                processBadToken("Multiline comment on [%d:%d] wasn't closed", row, col, 0);
+            } else if (lexerCache.getState() == MULTILINE_STRING) {
+                processBadToken("Multiline string on [%d:%d] wasn't closed", row, col, 0);
             }
         }
+    }
 
-        if (type == TokenType.INVALID) {
-            addToken(TokenType.IDENTIFIER, shift);
-        } else {
-            addToken(type, shift);
+    // Walks the scanner from the current column until there is no transition, the state it stops in tells the token
+    private void processToken() {
+        if (state != DEFAULT) {
+            processNonDefaultMode();
+            return;
         }
-    }
 
-    private void processOperator() {
-        state = OPERATOR;
+        var scanner = config.scanner();
+        var source = cursor.source();
+        var from = cursor.offset(cursor.col());
+        var end = cursor.end();
 
-        int shift = read(Validator::isOperator, 0);
-        var col = cursor.col();
-        var word = cursor.line().substring(col, col + shift);
+        var first = source.charAt(from);
+        if (first == ' ' || first == '\t') {
+            // Indentation runs are skipped by the char scanner, the same tokens the scanner's loop states give
+            addToken(first == ' ' ? TokenType.WHITE_SPACE : TokenType.TAB, cursor.skip(from, first) - from);
+            return;
+        }
+
+        var scanState = TokenScanner.START;
+        var pos = from;
+        while (pos < end) {
+            var next = scanner.next(scanState, source.charAt(pos));
+            if (next == TokenScanner.NONE) break;
+
+            scanState = next;
+            pos++;
+        }
 
-        var type = operatorsAutomate.getType(word);
-        if (type == TokenType.INVALID) {
-            processBadToken(shift);
+        var length = pos - from;
+        switch (scanner.action(scanState)) {
+            case TokenScanner.EMIT:
+                addToken(scanner.type(scanState), length);
+                break;
+            case TokenScanner.WORD:
+                var type = config.keywordRecognizer().getType(source, from, pos);
+                addToken(type == TokenType.INVALID ? TokenType.IDENTIFIER : type, length);
+                break;
+            case TokenScanner.STRING:
+                processDoubleQuote();
+                break;
+            case TokenScanner.MULTILINE_COMMENT:
+                processMultilineComment();
+                break;
+            case TokenScanner.BAD_TOKEN:
+                var col = cursor.col();
+                addInvalid(cursor.text(col, col + length), "Invalid token", length);
+                break;
+            default:
+                processBadToken(cursor.nextChar());
+        }
+    }
+
+    private void processNonDefaultMode() {
+        if (state == MULTILINE_COMMENT) {
+            processMultilineComment();
         } else {
-            addToken(type, shift);
+            processMultilineString();
         }
     }
 
@@ -252,225 +402,231 @@ public class Lexer {
         }
     }
 
+    // A backslash escapes the next char, whatever it is
     private void processSingleLineString() {
-        state = SINGLE_LINE_STRING;
-
-        int shift = 0;
-        char symbol;
+        var start = cursor.offset(cursor.col());
+        var pos = cursor.indexOf(start + 1, '"', '\\');
+        while (pos < cursor.end() && cursor.source().charAt(pos) == '\\') {
+            pos = cursor.indexOf(pos + 2, '"', '\\');
+        }
 
-        while (!cursor.isEnded(shift + 1)) {
-            shift++;
-            symbol = cursor.nextChar(shift);
-
-            if (state == SINGLE_LINE_STRING) {
-                if (symbol == '\\') {
-                    state = STRING_SLASH;
-                } else if (symbol == '\"') {
-                    shift++;
-                    addToken(TokenType.STRING_LITERAL, shift);
-                    return;
-                }
-            } else if (state == STRING_SLASH) {
-                state = SINGLE_LINE_STRING;
-            }
+        if (pos < cursor.end()) {
+            addToken(TokenType.STRING_LITERAL, pos + 1 - start);
+            return;
         }
 
-        var message = String.format(
-                "No closing quote was found for the first quote \" [%d:%d]", cursor.row(), cursor.col());
-        processBadToken(message, shift);
+        processBadToken("No closing quote was found for the first quote \" [%d:%d]", cursor.row(), cursor.col(),
+                cursor.length() - cursor.col() - 1);
     }
 
+    // The closing quotes are searched from the current column, or past the opening ones
     private void processMultilineString() {
-        int shift = 0;
-        char symbol;
-        int quoteCounter = 0;
+        var col = cursor.col();
+        var from = cursor.offset(col);
 
         if (state != MULTILINE_STRING) {
-            var sb = new StringBuilder();
-            int row = cursor.row(), col = cursor.col();
-
-            var lexerCache = new LexerCache(MULTILINE_STRING, sb, row, col);
-            cache.push(lexerCache);
-
-            shift = 2;
-        }
-        else if (cursor.nextChar() == '"') {
-            quoteCounter++;
+            cache.push(new LexerCache(MULTILINE_STRING, cursor.row(), col, from));
+            from += 3;
         }
 
         state = MULTILINE_STRING;
 
-        while (!cursor.isEnded(shift + 1)) {
-            shift++;
-            symbol = cursor.nextChar(shift);
-
-            quoteCounter = symbol == '"' ? quoteCounter + 1 : 0;
-
-            if (quoteCounter == 3) {
-                shift++;
-                addCacheToken(TokenType.MULTILINE_STRING, shift);
+        var source = cursor.source();
+        var pos = cursor.indexOf(from, '"');
+        while (pos + 2 < cursor.end()) {
+            if (source.charAt(pos + 1) == '"' && source.charAt(pos + 2) == '"') {
+                addCacheToken(TokenType.MULTILINE_STRING, pos + 3 - cursor.offset(col));
                 return;
             }
+            pos = cursor.indexOf(pos + 1, '"');
         }
 
-        int col = cursor.col();
-        cache.peek().getData().append(cursor.line(), col, col + shift + 1).append("\\n");
-        cursor.col(col + shift + 1);
-    }
-
-    private void processTypeDeclaration() {
-        state = TYPE_DECLARATION;
-
-        int shift = read(Validator::isWord, 1);
-
-        // we read only @ sign - incorrect token
-        if (shift == 1) {
-            processBadToken(shift);
-            return;
-        }
-
-        addToken(TokenType.TYPE_DECLARATION, shift);
-    }
-
-    private void processSingleLineComment() {
-        state = SINGLE_LINE_COMMENT;
-        addToken(TokenType.SINGLE_LINE_COMMENT, cursor.line().length() - cursor.col());
+        cursor.col(cursor.length());
     }
 
     private void processMultilineComment() {
-        state = MULTILINE_COMMENT;
-        int shift;
-        char symbol;
-
-        if (isMultilineCommentOpen(cursor.nextChar(), cursor.nextChar(1))) {
-            var sb = new StringBuilder();
-            int row = cursor.row(), col = cursor.col();
-
-            var lexerCache = new LexerCache(MULTILINE_COMMENT, sb, row, col);
-            cache.push(lexerCache);
-
-            shift = 1;
-        }
-        else {
-            shift = 0;
-            if (cursor.nextChar() == '*') {
-                state = MULTILINE_COMMENT_ENDING;
-            }
-        }
-
-        while (!cursor.isEnded(shift + 1)) {
-            shift++;
-            symbol = cursor.nextChar(shift);
+        var col = cursor.col();
+        var from = cursor.offset(col);
 
-            if (state == MULTILINE_COMMENT) {
-                if (symbol == '*') {
-                    state = MULTILINE_COMMENT_ENDING;
-                }
-            } else if (state == MULTILINE_COMMENT_ENDING) {
-                if (symbol == '/') {
-                    shift++;
-                    addCacheToken(TokenType.MULTILINE_COMMENT, shift);
-                    return;
-                }
-                else if (symbol != '*') {
-                    state = MULTILINE_COMMENT;
-                }
-            }
+        if (!cursor.isEnded(1) && isMultilineCommentOpen(cursor.nextChar(), cursor.nextChar(1))) {
+            cache.push(new LexerCache(MULTILINE_COMMENT, cursor.row(), col, from));
+            from += 2;
         }
 
-        int col = cursor.col();
-        cache.peek().getData().append(cursor.line(), col, shift + 1).append("\\n");
-
-        cursor.col(col + shift + 1);
         state = MULTILINE_COMMENT;
-    }
-
-    private void processPunctuation() {
-        state = PUNCTUATION;
 
-        var punctuation = cursor.nextChar(0).toString();
-        var type = punctuationsAutomate.getType(punctuation);
-        addToken(type, 1);
-    }
-
-    private void processDot() {
-        if (!cursor.isEnded(1) && isDigit(cursor.nextChar(1))) {
-            processNumber();
-        }
-        else {
-            processOperator();
+        var source = cursor.source();
+        var pos = cursor.indexOf(from, '*');
+        while (pos + 1 < cursor.end()) {
+            if (source.charAt(pos + 1) == '/') {
+                addCacheToken(TokenType.MULTILINE_COMMENT, pos + 2 - cursor.offset(col));
+                return;
+            }
+            pos = cursor.indexOf(pos + 1, '*');
         }
-    }
 
-    private void processBadToken(Character c) {
-        addInvalid(c.toString(), "Invalid character", 1);
+        cursor.col(cursor.length());
     }
 
-    private void processBadToken(int shift) {
-        processBadToken("Invalid token", shift);
+    private void processBadToken(char c) {
+        addInvalid(String.valueOf(c), "Invalid character", 1);
     }
 
-    private void processBadToken(String message, int shift) {
+    // The message is a format of the position [messageRow:messageCol] it quotes, if there is one
+    private void processBadToken(String message, int messageRow, int messageCol, int shift) {
         int col = cursor.col();
-        var states = List.of(OPERATOR);
 
-        if (shift == 0 && cursor.line().length() == col + 1) {
+        if (shift == 0 && cursor.length() == col + 1) {
             shift++;
-        } else if (!cursor.isEnded(shift) && !states.contains(state)) {
-            shift = read((Character c) -> !isEndOfToken(c), shift);
+        } else {
+            while (!cursor.isEnded(shift) && !isEndOfToken(cursor.nextChar(shift))) {
+                shift++;
+            }
         }
 
-        addInvalid(cursor.line().substring(col, col + shift), message, shift);
+        addInvalid(cursor.text(col, col + shift), message, messageRow, messageCol, shift);
     }
 
     private void addInvalid(String token, String message, int shift) {
+        addInvalid(token, message, InvalidToken.NO_POSITION, 0, shift);
+    }
+
+    private void addInvalid(String token, String message, int messageRow, int messageCol, int shift) {
         int row = cursor.row(), col = cursor.col();
-        invalid.add(new InvalidToken(token, message, row, col));
+        sink.onInvalid(new InvalidToken(token, message, row, col, messageRow, messageCol));
         cursor.col(col + shift);
 
         state = DEFAULT;
     }
 
     private void addToken(TokenType type, int length) {
-        add(type, length, "");
-    }
+        int col = cursor.col(), from = cursor.offset(col);
+        if (triviaMode != TriviaMode.KEEP && type.isTrivia()) {
+            addTrivia(type, from, length, length);
+            return;
+        }
 
-    private void add(TokenType type, int length, String prefix) {
-        var start = cursor.col();
-        var end = cursor.col() + length;
-        symbolTable.add(prefix + cursor.line().substring(start, end));
+        var symbol = symbolTable.intern(cursor.source(), from, from + length);
 
-        int index = symbolTable.size() - 1;
-        tokens.add(new Token(type, cursor.row(), cursor.col(), index));
-        cursor.col(cursor.col() + length);
+        sink.onToken(type, cursor.row(), col, from, length, symbol);
+        cursor.col(col + length);
 
         state = DEFAULT;
     }
 
+    // The token spans the source from the opening of the cached region, its text is only built when it is read
     private void addCacheToken(TokenType type, int length) {
         var lexerCache = cache.pop();
-        add(type, length, lexerCache.getData().toString());
+        var col = cursor.col();
+        int from = lexerCache.getOffset(), to = cursor.offset(col + length);
+        if (triviaMode != TriviaMode.KEEP && type.isTrivia()) {
+            addTrivia(type, from, to - from, length);
+            return;
+        }
 
-        if (!cache.isEmpty()) {
-            state = cache.peek().getState();
+        // An edited source changes in place, so the text can't stay a view of it
+        var text = new MultilineText(cursor.source(), from, to);
+        var symbol = cursor.source() instanceof GapBuffer
+                ? symbolTable.intern(text.toString())
+                : symbolTable.internLazily(text, text.hash());
+
+        sink.onToken(type, lexerCache.getRow(), lexerCache.getCol(), from, to - from, symbol);
+        cursor.col(col + length);
+
+        state = cache.isEmpty() ? DEFAULT : cache.peek().getState();
+    }
+
+    // Trivia are not interned, their text is in the source; shift is what the token takes of the current line
+    private void addTrivia(TokenType type, int offset, int length, int shift) {
+        if (triviaMode == TriviaMode.ATTACH) {
+            sink.onTrivia(type, offset, length);
         }
+        cursor.col(cursor.col() + shift);
+
+        state = cache.isEmpty() ? DEFAULT : cache.peek().getState();
     }
 
-    private int read(Predicate<Character> func, int shift) {
-        if (cursor.isEnded(shift)) {
-            return shift;
+    private void requireCollector() {
+        if (!isCollecting()) {
+            throw new IllegalStateException("Lexer does not collect its tokens");
         }
+    }
 
-        char symbol = cursor.nextChar(shift);
+    // Takes the place of the collector while the stream is read, the lines are separate strings
+    // so the offsets of their tokens are not kept
+    private class TokenIterator implements Iterator<Token>, TokenSink {
+
+        private final BufferedReader reader;
+        private final Consumer<InvalidToken> invalid;
+        private final Queue<Token> pending = new ArrayDeque<>();
+        // The lines since a multiline string or comment was opened, its span has to be in one source. A new
+        // buffer is started every time, so the text of a token interned lazily never changes.
+        private StringBuilder region;
+        private boolean finished;
+
+        private TokenIterator(BufferedReader reader, Consumer<InvalidToken> invalid) {
+            this.reader = reader;
+            this.invalid = invalid;
+            start(null);
+            cursor = new LineCursor();
+            sink = this;
+        }
 
-        while (func.test(symbol)) {
-            shift++;
-            if (cursor.isEnded(shift)) break;
+        @Override
+        public boolean hasNext() {
+            while (pending.isEmpty() && !finished) {
+                readLine();
+            }
+
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public Token next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return pending.remove();
+        }
+
+        @Override
+        public void onToken(TokenType type, int row, int col, int offset, int length, int symbol) {
+            pending.add(new Token(type, row, col, symbol));
+        }
 
-            symbol = cursor.nextChar(shift);
+        @Override
+        public void onInvalid(InvalidToken token) {
+            invalid.accept(token);
+        }
+
+        private void readLine() {
+            String line;
+            try {
+                line = reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (line == null) {
+                finish();
+                finished = true;
+                sink = collector;
+            } else if (region == null) {
+                processLine(line, 0, line.length());
+                if (!cache.isEmpty()) {
+                    region = new StringBuilder(line).append('\n');
+                }
+            } else {
+                var start = region.length();
+                region.append(line).append('\n');
+                processLine(region, start, start + line.length());
+                if (cache.isEmpty()) {
+                    region = null;
+                }
+            }
         }
 
-        return shift;
     }
 
 }
@@ -12,8 +12,9 @@ import lombok.Setter;
 public class LexerCache {
 
     private LexerState state;
-    private StringBuilder data;
     private int row;
     private int col;
+    // Source offset the string or comment starts at
+    private int offset;
 
 }
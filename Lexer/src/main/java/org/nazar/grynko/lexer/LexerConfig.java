@@ -0,0 +1,116 @@
+package org.nazar.grynko.lexer;
+
+import org.nazar.grynko.automate.Automate;
+import org.nazar.grynko.automate.AutomateBuilder;
+import org.nazar.grynko.automate.AutomateImage;
+import org.nazar.grynko.automate.KeywordHash;
+import org.nazar.grynko.automate.TokenRecognizer;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// The compiled automata of a lexer. They are never modified after build, so one config can be shared
+// by any number of lexers on any threads. The scanner built from them recognizes every token that starts
+// in the default state.
+public record LexerConfig(Automate operators, Automate keywords, Automate punctuations,
+                          TokenRecognizer keywordRecognizer, TokenScanner scanner) {
+
+    private static final int MAGIC = 0x4C584333;
+    // Keyword recognizers an image can hold, the scanner classifies keywords itself only with the automate
+    private static final byte KEYWORD_AUTOMATE = 0;
+    private static final byte KEYWORD_HASH = 1;
+
+    public LexerConfig(Automate operators, Automate keywords, Automate punctuations) {
+        this(operators, keywords, punctuations, keywords);
+    }
+
+    // The scanner classifies keywords itself unless another recognizer is given
+    public LexerConfig(Automate operators, Automate keywords, Automate punctuations,
+                       TokenRecognizer keywordRecognizer) {
+        this(operators, keywords, punctuations, keywordRecognizer,
+                TokenScanner.build(operators, keywords, punctuations, keywordRecognizer == keywords));
+    }
+
+    public static LexerConfig build(List<String> operators, List<String> keywords, List<String> punctuations) {
+        return new LexerConfig(AutomateBuilder.build(operators), AutomateBuilder.build(keywords),
+                AutomateBuilder.build(punctuations));
+    }
+
+    public LexerConfig withKeywordHash() {
+        return new LexerConfig(operators, keywords, punctuations, KeywordHash.build(keywords));
+    }
+
+    // Reading an image skips the word lists, the trie construction and the scanner construction
+    public static LexerConfig load(Path path) throws IOException {
+        return load(ByteBuffer.wrap(Files.readAllBytes(path)));
+    }
+
+    public static LexerConfig load(InputStream in) throws IOException {
+        return load(ByteBuffer.wrap(in.readAllBytes()));
+    }
+
+    public static LexerConfig load(ByteBuffer image) throws IOException {
+        try {
+            if (image.getInt() != MAGIC) {
+                throw new IOException("Not a lexer config image");
+            }
+            if (image.getInt() != AutomateImage.TYPES_FINGERPRINT) {
+                throw new IOException("Lexer config image was written for other token types");
+            }
+
+            var operators = AutomateImage.read(image);
+            var keywords = AutomateImage.read(image);
+            var punctuations = AutomateImage.read(image);
+            var recognizer = readKeywordRecognizer(image.get(), keywords);
+
+            return new LexerConfig(operators, keywords, punctuations, recognizer, TokenScanner.read(image));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Broken lexer config image", e);
+        }
+    }
+
+    public void save(Path path) throws IOException {
+        try (var out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            save(out);
+        }
+    }
+
+    public void save(OutputStream out) throws IOException {
+        var data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(AutomateImage.TYPES_FINGERPRINT);
+        AutomateImage.write(operators, data);
+        AutomateImage.write(keywords, data);
+        AutomateImage.write(punctuations, data);
+        data.writeByte(keywordRecognizerKind());
+        scanner.write(data);
+        data.flush();
+    }
+
+    private byte keywordRecognizerKind() throws IOException {
+        if (keywordRecognizer == keywords) {
+            return KEYWORD_AUTOMATE;
+        }
+        if (keywordRecognizer instanceof KeywordHash) {
+            return KEYWORD_HASH;
+        }
+        throw new IOException("Keyword recognizer can't be written to an image: " + keywordRecognizer.getClass());
+    }
+
+    // The hash is built from the keywords again, the build always finds the same seed
+    private static TokenRecognizer readKeywordRecognizer(byte kind, Automate keywords) throws IOException {
+        switch (kind) {
+            case KEYWORD_AUTOMATE:
+                return keywords;
+            case KEYWORD_HASH:
+                return KeywordHash.build(keywords);
+            default:
+                throw new IOException("Unknown keyword recognizer in lexer config image: " + kind);
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package org.nazar.grynko.lexer;
+
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.SymbolTable;
+import org.nazar.grynko.TokenStream;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public record LexerResult(Path path, boolean parsed, TokenStream tokens, SymbolTable symbolTable,
+                          List<InvalidToken> invalid) {
+
+}
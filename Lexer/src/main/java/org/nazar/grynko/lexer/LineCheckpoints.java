@@ -0,0 +1,199 @@
+package org.nazar.grynko.lexer;
+
+import org.nazar.grynko.GapArrays;
+import org.nazar.grynko.LineIndex;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Offset, first token, first invalid token, state and cache stack of every line at the point its lexing starts
+public class LineCheckpoints extends GapArrays {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final LexerState[] STATES = LexerState.values();
+    private static final int KIND_LEVELS = Integer.SIZE;
+
+    private int[] offsets;
+    private int[] tokens;
+    private int[] invalid;
+    private byte[] states;
+    private int[] depths;
+    // A bit per cache level, set for a string
+    private int[] kinds;
+    // Shifts of the rows behind the gap
+    private int tailOffsetShift;
+    private int tailTokenShift;
+    private int tailInvalidShift;
+    private final LineIndex lines = new Lines();
+
+    public LineCheckpoints() {
+        super(INITIAL_CAPACITY);
+        offsets = new int[INITIAL_CAPACITY];
+        tokens = new int[INITIAL_CAPACITY];
+        invalid = new int[INITIAL_CAPACITY];
+        states = new byte[INITIAL_CAPACITY];
+        depths = new int[INITIAL_CAPACITY];
+        kinds = new int[INITIAL_CAPACITY];
+    }
+
+    public int offset(int row) {
+        return row < gap ? offsets[row] : offsets[row + gapLength] + tailOffsetShift;
+    }
+
+    public int token(int row) {
+        return row < gap ? tokens[row] : tokens[row + gapLength] + tailTokenShift;
+    }
+
+    public int invalid(int row) {
+        return row < gap ? invalid[row] : invalid[row + gapLength] + tailInvalidShift;
+    }
+
+    public LexerState state(int row) {
+        return STATES[states[index(row)]];
+    }
+
+    public int cacheDepth(int row) {
+        return depths[index(row)];
+    }
+
+    // State of the cache entry at level (0 is the bottom of the stack)
+    public LexerState cacheKind(int row, int level) {
+        if (level >= KIND_LEVELS) {
+            return LexerState.MULTILINE_COMMENT;
+        }
+
+        return (kinds[index(row)] & 1 << level) != 0 ? LexerState.MULTILINE_STRING : LexerState.MULTILINE_COMMENT;
+    }
+
+    public boolean isClean(int row) {
+        var slot = index(row);
+        return states[slot] == LexerState.DEFAULT.ordinal() && depths[slot] == 0;
+    }
+
+    // Row of the line starting at offset, -1 if no line starts there
+    public int find(int offset) {
+        var row = rowAt(offset);
+        return row >= 0 && offset(row) == offset ? row : -1;
+    }
+
+    // The line starts as a line index, it follows the replaced rows
+    public LineIndex lines() {
+        return lines;
+    }
+
+    void add(int offset, int token, int invalidIndex, LexerState state, List<LexerCache> cache) {
+        var slot = append();
+        var kind = 0;
+        for (int level = 0; level < cache.size() && level < KIND_LEVELS; level++) {
+            if (cache.get(level).getState() == LexerState.MULTILINE_STRING) {
+                kind |= 1 << level;
+            }
+        }
+
+        offsets[slot] = offset;
+        tokens[slot] = token;
+        invalid[slot] = invalidIndex;
+        states[slot] = (byte) state.ordinal();
+        depths[slot] = cache.size();
+        kinds[slot] = kind;
+    }
+
+    void append(LineCheckpoints lines, int tokenShift, int invalidShift) {
+        replace(size, size, lines, tokenShift, invalidShift, 0, 0, 0);
+    }
+
+    // Replaces the rows [from, to) with lines, whose token and invalid indexes are moved by tokenBase/invalidBase.
+    // The rows after the range are moved by the tail shifts.
+    void replace(int from, int to, LineCheckpoints lines, int tokenBase, int invalidBase,
+                 int tailOffsetShift, int tailTokenShift, int tailInvalidShift) {
+        var slot = splice(from, to, lines.size);
+        this.tailOffsetShift += tailOffsetShift;
+        this.tailTokenShift += tailTokenShift;
+        this.tailInvalidShift += tailInvalidShift;
+
+        for (int row = 0; row < lines.size; row++) {
+            var lineSlot = lines.index(row);
+            offsets[slot + row] = lines.offset(row);
+            tokens[slot + row] = lines.token(row) + tokenBase;
+            invalid[slot + row] = lines.invalid(row) + invalidBase;
+            states[slot + row] = lines.states[lineSlot];
+            depths[slot + row] = lines.depths[lineSlot];
+            kinds[slot + row] = lines.kinds[lineSlot];
+        }
+    }
+
+    void clear() {
+        clearRows();
+        tailOffsetShift = 0;
+        tailTokenShift = 0;
+        tailInvalidShift = 0;
+    }
+
+    @Override
+    protected int capacity() {
+        return offsets.length;
+    }
+
+    @Override
+    protected void resize(int capacity) {
+        offsets = Arrays.copyOf(offsets, capacity);
+        tokens = Arrays.copyOf(tokens, capacity);
+        invalid = Arrays.copyOf(invalid, capacity);
+        states = Arrays.copyOf(states, capacity);
+        depths = Arrays.copyOf(depths, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+    }
+
+    @Override
+    protected void copy(int from, int to, int length) {
+        System.arraycopy(offsets, from, offsets, to, length);
+        System.arraycopy(tokens, from, tokens, to, length);
+        System.arraycopy(invalid, from, invalid, to, length);
+        System.arraycopy(states, from, states, to, length);
+        System.arraycopy(depths, from, depths, to, length);
+        System.arraycopy(kinds, from, kinds, to, length);
+    }
+
+    @Override
+    protected void shift(int from, int to, int sign) {
+        for (int slot = from; slot < to; slot++) {
+            offsets[slot] += sign * tailOffsetShift;
+            tokens[slot] += sign * tailTokenShift;
+            invalid[slot] += sign * tailInvalidShift;
+        }
+    }
+
+    // Last row starting at or before offset, -1 if there is none
+    private int rowAt(int offset) {
+        int low = 0, high = size - 1;
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            if (offset(middle) <= offset) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    private class Lines extends LineIndex {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int start(int row) {
+            return offset(row);
+        }
+
+        @Override
+        public int row(int offset) {
+            return rowAt(offset);
+        }
+
+    }
+
+}
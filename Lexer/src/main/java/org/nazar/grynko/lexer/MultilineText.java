@@ -0,0 +1,108 @@
+package org.nazar.grynko.lexer;
+
+// Text of a multiline string or comment read from the source, every line break is written as the two characters "\n"
+final class MultilineText implements CharSequence {
+
+    private final CharSequence source;
+    private final int start;
+    private final int end;
+    private final int length;
+    private final int hash;
+
+    private int index;
+    private int position;
+    private boolean escaped;
+
+    // Breaks are "\n", "\r" or "\r\n". The length and the String hash are found in one pass.
+    MultilineText(CharSequence source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+
+        int length = 0, hash = 0;
+        for (int i = start; i < end; i++) {
+            var c = source.charAt(i);
+            if (isBreak(c)) {
+                hash = 31 * (31 * hash + '\\') + 'n';
+                length += 2;
+                i += breakLength(i) - 1;
+            } else {
+                hash = 31 * hash + c;
+                length++;
+            }
+        }
+
+        this.length = length;
+        this.hash = hash;
+        this.position = start;
+    }
+
+    // Same value as hashCode of the text as a String
+    int hash() {
+        return hash;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    // Nothing is copied, a position moves forward through the source, so reading the text in order is linear
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        if (index < this.index) {
+            this.index = 0;
+            position = start;
+            escaped = false;
+        }
+
+        while (this.index < index) {
+            if (escaped) {
+                position += breakLength(position);
+                escaped = false;
+            } else if (isBreak(source.charAt(position))) {
+                escaped = true;
+            } else {
+                position++;
+            }
+            this.index++;
+        }
+
+        if (escaped) {
+            return 'n';
+        }
+
+        var c = source.charAt(position);
+        return isBreak(c) ? '\\' : c;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        var sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            sb.append(charAt(i));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length).toString();
+    }
+
+    private int breakLength(int position) {
+        if (source.charAt(position) == '\r' && position + 1 < end && source.charAt(position + 1) == '\n') {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static boolean isBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+
+}
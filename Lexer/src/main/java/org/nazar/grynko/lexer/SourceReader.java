@@ -0,0 +1,37 @@
+package org.nazar.grynko.lexer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Maps a source file into memory and decodes it as UTF-8 in one pass.
+final class SourceReader {
+
+    private SourceReader() {
+    }
+
+    static CharBuffer read(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be mapped: " + path);
+            }
+
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    static CharBuffer decode(ByteBuffer bytes) throws CharacterCodingException {
+        return StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(bytes);
+    }
+
+}
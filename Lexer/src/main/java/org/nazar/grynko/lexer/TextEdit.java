@@ -0,0 +1,6 @@
+package org.nazar.grynko.lexer;
+
+// Replacement of the [start, end) range of the previously lexed source, positions are row/col as reported in tokens
+public record TextEdit(int startRow, int startCol, int endRow, int endCol, String text) {
+
+}
@@ -0,0 +1,192 @@
+package org.nazar.grynko.lexer;
+
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.SymbolTable;
+import org.nazar.grynko.TokenStream;
+import org.nazar.grynko.TokenStreamReader;
+import org.nazar.grynko.TokenStreamWriter;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// Content-addressed on-disk cache of lexing results, evicted least recently used first over maxBytes
+public class TokenCache {
+
+    private static final int MAGIC = 0x544B4332;
+    // Bump whenever the lexer gives other tokens, positions or texts for the same input
+    private static final int LEXER_VERSION = 1;
+    private static final String ENTRY_EXTENSION = ".tokens";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final byte[] configDigest;
+    private final AtomicLong size;
+
+    public TokenCache(Path directory, long maxBytes, LexerConfig config) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        this.configDigest = digestConfig(config);
+        this.size = new AtomicLong(entries().stream().mapToLong(TokenCache::sizeOf).sum());
+    }
+
+    // SHA-256 of the lexer version, the config image and the file bytes, so a changed file, word list or lexer
+    // never hits
+    public String key(byte[] content) {
+        var digest = newDigest();
+        digest.update(configDigest);
+        digest.update(content);
+
+        var sb = new StringBuilder();
+        for (var b: digest.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return sb.toString();
+    }
+
+    // A missing, truncated or foreign entry is a miss, broken entries are dropped
+    public Optional<LexerResult> load(Path file, String key) {
+        var entry = entry(key);
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+
+        try {
+            var result = read(file, ByteBuffer.wrap(Files.readAllBytes(entry)));
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+            return Optional.of(result);
+        } catch (IOException | RuntimeException e) {
+            size.addAndGet(-sizeOf(entry));
+            delete(entry);
+            return Optional.empty();
+        }
+    }
+
+    // Entries are written to a temporary file and moved in place, concurrent writers of one key are harmless
+    public void store(String key, LexerResult result) throws IOException {
+        var entry = entry(key);
+        var temp = Files.createTempFile(directory, key, ".tmp");
+
+        try {
+            write(result, Files.newOutputStream(temp));
+
+            var previous = sizeOf(entry);
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            size.addAndGet(sizeOf(entry) - previous);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        if (size.get() > maxBytes) {
+            evict();
+        }
+    }
+
+    // The modification time of an entry is touched on every hit
+    private synchronized void evict() throws IOException {
+        var entries = entries();
+        entries.sort(Comparator.comparing(TokenCache::lastModified));
+
+        var total = entries.stream().mapToLong(TokenCache::sizeOf).sum();
+        for (var entry: entries) {
+            if (total <= maxBytes) break;
+
+            total -= sizeOf(entry);
+            delete(entry);
+        }
+
+        size.set(total);
+    }
+
+    private static void write(LexerResult result, OutputStream out) throws IOException {
+        var header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeBoolean(result.parsed());
+
+        try (var writer = new TokenStreamWriter(out, result.symbolTable())) {
+            writer.write(result.tokens());
+            writer.write(result.invalid());
+        }
+    }
+
+    private static LexerResult read(Path file, ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a token cache entry");
+        }
+
+        var parsed = buffer.get() != 0;
+
+        var tokens = new TokenStream();
+        var table = new SymbolTable();
+        var invalid = new ArrayList<InvalidToken>();
+        new TokenStreamReader(buffer).readInto(tokens, table, invalid);
+
+        return new LexerResult(file, parsed, tokens, table, invalid);
+    }
+
+    // The compiled automata are all the lexer knows about its word lists
+    private static byte[] digestConfig(LexerConfig config) throws IOException {
+        var image = new ByteArrayOutputStream();
+        new DataOutputStream(image).writeInt(LEXER_VERSION);
+        config.save(image);
+
+        return newDigest().digest(image.toByteArray());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path entry(String key) {
+        return directory.resolve(key + ENTRY_EXTENSION);
+    }
+
+    private List<Path> entries() throws IOException {
+        try (var list = Files.list(directory)) {
+            return list.filter(path -> path.toString().endsWith(ENTRY_EXTENSION))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+}
@@ -0,0 +1,14 @@
+package org.nazar.grynko.lexer;
+
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.SymbolTable;
+import org.nazar.grynko.TokenStream;
+
+import java.util.List;
+
+// Tokens of the lines [fromRow, toRow). The symbol table is over the one of the lexer that produced them: symbols the
+// lexer knew keep their ids, new ones are only in this table.
+public record TokenRange(int fromRow, int toRow, TokenStream tokens, List<InvalidToken> invalid,
+                         SymbolTable symbolTable) {
+
+}
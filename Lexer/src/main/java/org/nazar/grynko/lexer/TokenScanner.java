@@ -0,0 +1,421 @@
+package org.nazar.grynko.lexer;
+
+import org.nazar.grynko.CharClass;
+import org.nazar.grynko.TokenType;
+import org.nazar.grynko.Validator;
+import org.nazar.grynko.automate.Automate;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+import static org.nazar.grynko.CharClass.has;
+import static org.nazar.grynko.automate.Automate.ALPHABET_SIZE;
+
+// DFA over every token that starts in the default state, the action of the state it stops in classifies the token
+public final class TokenScanner {
+
+    static final int START = 0;
+    static final int NONE = 0;
+
+    // Actions of the state the scan stops in
+    static final byte EMIT = 0;
+    static final byte BAD_TOKEN = 1;
+    static final byte BAD_CHARACTER = 2;
+    static final byte STRING = 3;
+    static final byte MULTILINE_COMMENT = 4;
+    static final byte WORD = 5;
+
+    private static final int UNICODE_DIGIT = ALPHABET_SIZE;
+    private static final int UNICODE_WORD = ALPHABET_SIZE + 1;
+    private static final int UNICODE_OTHER = ALPHABET_SIZE + 2;
+    private static final int COLUMNS = ALPHABET_SIZE + 3;
+    private static final List<String> ALPHABETIC_OPERATORS = List.of("as", "try");
+    private static final TokenType[] TYPES = TokenType.values();
+    private static final int MAX_STATES = 1 << 16;
+
+    private final int[] transitions;
+    private final byte[] actions;
+    private final TokenType[] types;
+
+    private TokenScanner(int[] transitions, byte[] actions, TokenType[] types) {
+        this.transitions = transitions;
+        this.actions = actions;
+        this.types = types;
+    }
+
+    int next(int state, char c) {
+        return transitions[state * COLUMNS + column(c)];
+    }
+
+    byte action(int state) {
+        return actions[state];
+    }
+
+    TokenType type(int state) {
+        return types[state];
+    }
+
+    // Keywords are classified by the DFA itself when fuseKeywords is set, otherwise words end in WORD states
+    // and the lexer asks its keyword recognizer
+    public static TokenScanner build(Automate operators, Automate keywords, Automate punctuations,
+                                     boolean fuseKeywords) {
+        return new Builder(operators, keywords, punctuations, fuseKeywords).build();
+    }
+
+    // Rows are written as the columns that differ from the row of the previous state, trie states mostly
+    // differ only in their children
+    void write(DataOutputStream out) throws IOException {
+        var states = actions.length;
+        if (states > MAX_STATES) {
+            throw new IOException("Scanner has too many states: " + states);
+        }
+
+        out.writeInt(states);
+        for (int state = 0; state < states; state++) {
+            out.writeByte(actions[state]);
+            out.writeShort(types[state] == null ? -1 : types[state].ordinal());
+
+            var base = state * COLUMNS;
+            var changes = 0;
+            for (int column = 0; column < COLUMNS; column++) {
+                if (transitions[base + column] != previous(state, column)) changes++;
+            }
+
+            out.writeByte(changes);
+            for (int column = 0; column < COLUMNS; column++) {
+                if (transitions[base + column] != previous(state, column)) {
+                    out.writeByte(column);
+                    out.writeShort(transitions[base + column]);
+                }
+            }
+        }
+    }
+
+    static TokenScanner read(ByteBuffer in) throws IOException {
+        var states = in.getInt();
+        if (states <= 0 || states > MAX_STATES) {
+            throw new IOException("Broken scanner image");
+        }
+
+        var transitions = new int[states * COLUMNS];
+        var actions = new byte[states];
+        var types = new TokenType[states];
+
+        for (int state = 0; state < states; state++) {
+            actions[state] = in.get();
+            var type = in.getShort();
+            types[state] = type < 0 ? null : TYPES[type];
+
+            var base = state * COLUMNS;
+            if (state > 0) {
+                System.arraycopy(transitions, base - COLUMNS, transitions, base, COLUMNS);
+            }
+
+            var changes = in.get() & 0xFF;
+            for (int i = 0; i < changes; i++) {
+                var column = in.get() & 0xFF;
+                var target = in.getShort() & 0xFFFF;
+                if (column >= COLUMNS || target >= states) {
+                    throw new IOException("Broken scanner image");
+                }
+
+                transitions[base + column] = target;
+            }
+        }
+
+        return new TokenScanner(transitions, actions, types);
+    }
+
+    private int previous(int state, int column) {
+        return state == 0 ? NONE : transitions[(state - 1) * COLUMNS + column];
+    }
+
+    private static int column(char c) {
+        if (c < ALPHABET_SIZE) {
+            return c;
+        }
+
+        var classes = CharClass.of(c);
+        if (has(classes, CharClass.DIGIT)) {
+            return UNICODE_DIGIT;
+        }
+        return has(classes, CharClass.WORD) ? UNICODE_WORD : UNICODE_OTHER;
+    }
+
+    private static int classesOf(int column) {
+        if (column < ALPHABET_SIZE) {
+            return CharClass.of((char) column);
+        }
+        if (column == UNICODE_DIGIT) {
+            return CharClass.DIGIT;
+        }
+        return column == UNICODE_WORD ? CharClass.WORD : 0;
+    }
+
+    private static boolean is(int column, int charClass) {
+        return has(classesOf(column), charClass);
+    }
+
+    private static class Builder {
+
+        private final Automate operators;
+        private final Automate punctuations;
+        private final Map<String, TokenType> keywords;
+        private final boolean fuseKeywords;
+
+        private int[] transitions = new int[64 * COLUMNS];
+        private final List<Byte> actions = new ArrayList<>();
+        private final List<TokenType> types = new ArrayList<>();
+
+        private Builder(Automate operators, Automate keywords, Automate punctuations, boolean fuseKeywords) {
+            this.operators = operators;
+            this.punctuations = punctuations;
+            this.keywords = fuseKeywords ? keywords.words() : Map.of();
+            this.fuseKeywords = fuseKeywords;
+        }
+
+        private TokenScanner build() {
+            var start = state(BAD_CHARACTER, null);
+
+            var whitespace = loop(TokenType.WHITE_SPACE, column -> is(column, CharClass.WHITESPACE));
+            var tab = loop(TokenType.TAB, column -> is(column, CharClass.TAB));
+            var backSlash = state(EMIT, TokenType.BACK_SLASh);
+            var string = state(STRING, null);
+            var badCharacter = state(BAD_CHARACTER, null);
+            var badRun = state(BAD_TOKEN, null);
+            connect(badRun, column -> !is(column, CharClass.END_OF_TOKEN), badRun);
+
+            var integer = state(EMIT, TokenType.INT);
+            var floating = state(EMIT, TokenType.FLOAT);
+            number(integer, integer, badRun);
+            set(integer, '.', floating);
+            number(floating, floating, badRun);
+
+            var identifier = state(fuseKeywords ? EMIT : WORD, fuseKeywords ? TokenType.IDENTIFIER : null);
+            connect(identifier, column -> !is(column, CharClass.END_OF_TOKEN), identifier);
+
+            var typeDeclaration = state(EMIT, TokenType.TYPE_DECLARATION);
+            connect(typeDeclaration, column -> is(column, CharClass.WORD), typeDeclaration);
+            var at = state(BAD_TOKEN, null);
+            connect(at, column -> !is(column, CharClass.END_OF_TOKEN), badRun);
+            connect(at, column -> is(column, CharClass.WORD), typeDeclaration);
+
+            var words = words(identifier);
+            var operatorRuns = operatorRuns(floating);
+
+            // The checks of the former if-chain, in its order
+            for (int column = 0; column < COLUMNS; column++) {
+                int target;
+                if (is(column, CharClass.WHITESPACE)) {
+                    target = whitespace;
+                } else if (is(column, CharClass.TAB)) {
+                    target = tab;
+                } else if (is(column, CharClass.DOT)) {
+                    target = operatorRuns.get((char) column);
+                } else if (is(column, CharClass.BACK_SLASH)) {
+                    target = backSlash;
+                } else if (is(column, CharClass.DIGIT)) {
+                    target = integer;
+                } else if (is(column, CharClass.WORD)) {
+                    target = words.getOrDefault(column, identifier);
+                } else if (is(column, CharClass.PUNCTUATION)) {
+                    var type = punctuations.getType(String.valueOf((char) column));
+                    target = state(EMIT, type);
+                } else if (is(column, CharClass.OPERATOR)) {
+                    target = operatorRuns.get((char) column);
+                } else if (is(column, CharClass.DOUBLE_QUOTE)) {
+                    target = string;
+                } else if (is(column, CharClass.AT)) {
+                    target = at;
+                } else {
+                    target = badCharacter;
+                }
+
+                transitions[start * COLUMNS + column] = target;
+            }
+
+            var byteActions = new byte[actions.size()];
+            for (int i = 0; i < byteActions.length; i++) {
+                byteActions[i] = actions.get(i);
+            }
+
+            return new TokenScanner(Arrays.copyOf(transitions, actions.size() * COLUMNS), byteActions,
+                    types.toArray(TokenType[]::new));
+        }
+
+        // Trie of the keywords and the alphabetic operators, returns the first-level states by column.
+        // Leaving the trie with a character that still belongs to the word leads to the identifier state.
+        private Map<Integer, Integer> words(int identifier) {
+            var trie = new HashMap<String, Integer>();
+            var roots = new HashMap<Integer, Integer>();
+
+            var words = new ArrayList<>(keywords.keySet());
+            words.addAll(ALPHABETIC_OPERATORS);
+
+            for (var word: words) {
+                for (int length = 1; length <= word.length(); length++) {
+                    var prefix = word.substring(0, length);
+                    if (!trie.containsKey(prefix)) {
+                        trie.put(prefix, state(EMIT, null));
+                    }
+                }
+            }
+
+            for (var entry: trie.entrySet()) {
+                var prefix = entry.getKey();
+                var node = entry.getValue();
+
+                setWordType(node, prefix);
+                connect(node, column -> !is(column, CharClass.END_OF_TOKEN), identifier);
+
+                if (prefix.length() == 1) {
+                    roots.put((int) prefix.charAt(0), node);
+                }
+            }
+
+            link(trie);
+
+            // "as" and "try" may be directly followed by "?" or "!"
+            for (var word: ALPHABETIC_OPERATORS) {
+                for (char c = 0; c < ALPHABET_SIZE; c++) {
+                    if (!Validator.isCastOperator(c)) continue;
+
+                    var type = operators.getType(word + c);
+                    set(trie.get(word), c, state(EMIT, type == TokenType.INVALID ? TokenType.IDENTIFIER : type));
+                }
+            }
+
+            return roots;
+        }
+
+        private void setWordType(int node, String word) {
+            if (ALPHABETIC_OPERATORS.contains(word)) {
+                var type = operators.getType(word);
+                types.set(node, type == TokenType.INVALID ? TokenType.IDENTIFIER : type);
+                return;
+            }
+
+            if (!fuseKeywords) {
+                actions.set(node, WORD);
+                return;
+            }
+
+            types.set(node, keywords.getOrDefault(word, TokenType.IDENTIFIER));
+        }
+
+        // Trie of the operators made of operator characters, returns the first-level states by character.
+        // A run that is not an operator is one bad token. "//" and "/*" open comments and ".<digit>" starts
+        // a number only at the start of a token.
+        private Map<Character, Integer> operatorRuns(int floating) {
+            var trie = new HashMap<String, Integer>();
+            var roots = new HashMap<Character, Integer>();
+
+            var operatorRun = state(BAD_TOKEN, null);
+            connect(operatorRun, column -> is(column, CharClass.OPERATOR), operatorRun);
+
+            for (var entry: operators.words().entrySet()) {
+                var word = entry.getKey();
+                if (!word.chars().allMatch(c -> CharClass.is((char) c, CharClass.OPERATOR))) continue;
+
+                for (int length = 1; length <= word.length(); length++) {
+                    var prefix = word.substring(0, length);
+                    if (!trie.containsKey(prefix)) {
+                        var node = state(BAD_TOKEN, null);
+                        connect(node, column -> is(column, CharClass.OPERATOR), operatorRun);
+                        trie.put(prefix, node);
+                    }
+                }
+
+                var node = trie.get(word);
+                actions.set(node, EMIT);
+                types.set(node, entry.getValue());
+            }
+
+            for (char c = 0; c < ALPHABET_SIZE; c++) {
+                if (is(c, CharClass.OPERATOR)) {
+                    roots.put(c, trie.getOrDefault(String.valueOf(c), operatorRun));
+                }
+            }
+
+            link(trie);
+
+            var comment = loop(TokenType.SINGLE_LINE_COMMENT, column -> true);
+            var slash = rootState(roots, '/', operatorRun);
+            set(slash, '/', comment);
+            set(slash, '*', state(MULTILINE_COMMENT, null));
+
+            var dot = rootState(roots, '.', operatorRun);
+            connect(dot, column -> is(column, CharClass.DIGIT), floating);
+
+            return roots;
+        }
+
+        // A single-character operator that is not in the list still needs a state of its own for the
+        // transitions that only exist at the start of a token
+        private int rootState(Map<Character, Integer> roots, char c, int operatorRun) {
+            var state = roots.get(c);
+            if (state == null || state == operatorRun) {
+                state = state(BAD_TOKEN, null);
+                connect(state, column -> is(column, CharClass.OPERATOR), operatorRun);
+                roots.put(c, state);
+            }
+            return state;
+        }
+
+        // Connects every trie state to its parent, after the parents got their default transitions
+        private void link(Map<String, Integer> trie) {
+            for (var entry: trie.entrySet()) {
+                var prefix = entry.getKey();
+                if (prefix.length() > 1) {
+                    var parent = trie.get(prefix.substring(0, prefix.length() - 1));
+                    set(parent, prefix.charAt(prefix.length() - 1), entry.getValue());
+                }
+            }
+        }
+
+        // Digits continue the number in next, any other character that does not end a token makes it bad
+        private void number(int state, int next, int badRun) {
+            connect(state, column -> !is(column, CharClass.END_OF_TOKEN), badRun);
+            connect(state, column -> is(column, CharClass.DIGIT), next);
+        }
+
+        private int loop(TokenType type, IntPredicate columns) {
+            var state = state(EMIT, type);
+            connect(state, columns, state);
+            return state;
+        }
+
+        private void connect(int from, IntPredicate columns, int to) {
+            for (int column = 0; column < COLUMNS; column++) {
+                if (columns.test(column)) {
+                    transitions[from * COLUMNS + column] = to;
+                }
+            }
+        }
+
+        private void set(int from, char c, int to) {
+            transitions[from * COLUMNS + c] = to;
+        }
+
+        private int state(byte action, TokenType type) {
+            var state = actions.size();
+            actions.add(action);
+            types.add(type);
+
+            if ((state + 1) * COLUMNS > transitions.length) {
+                transitions = Arrays.copyOf(transitions, transitions.length * 2);
+            }
+
+            return state;
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+package org.nazar.grynko.lexer;
+
+// What the lexer does with whitespace, tabs and comments (TokenType.isTrivia)
+public enum TriviaMode {
+
+    // Trivia are tokens like any other
+    KEEP,
+    // Trivia are not tokens, every token of the stream knows the trivia around it
+    ATTACH,
+    // Trivia are skipped
+    DROP
+
+}
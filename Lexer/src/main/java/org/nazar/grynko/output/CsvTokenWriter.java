@@ -0,0 +1,80 @@
+package org.nazar.grynko.output;
+
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.TokenType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+
+// RFC 4180 records under a single header, file records carry the path in the value column
+public class CsvTokenWriter extends TokenWriter {
+
+    private static final String HEADER = "kind,index,type,value,row,col,length,message\r\n";
+    private static final String NOT_PARSED = "File wasn't parsed completely";
+
+    private boolean started;
+
+    public CsvTokenWriter(Writer out) {
+        super(out);
+    }
+
+    @Override
+    public void file(Path path, boolean parsed) throws IOException {
+        start();
+        out.append("file,,,");
+        field(path.toString());
+        out.append(",,,,");
+        field(parsed ? "" : NOT_PARSED);
+        out.append("\r\n");
+    }
+
+    @Override
+    public void token(int index, TokenType type, String value, int row, int col) throws IOException {
+        start();
+        out.append("token,").append(Integer.toString(index))
+                .append(',').append(type.name())
+                .append(',');
+        field(value);
+        out.append(',').append(Integer.toString(row))
+                .append(',').append(Integer.toString(col))
+                .append(',').append(Integer.toString(value.length()))
+                .append(",\r\n");
+    }
+
+    @Override
+    public void invalid(int index, InvalidToken token) throws IOException {
+        start();
+        out.append("invalid,").append(Integer.toString(index))
+                .append(",,");
+        field(token.getValue());
+        out.append(',').append(Integer.toString(token.getRow()))
+                .append(',').append(Integer.toString(token.getCol()))
+                .append(",,");
+        field(token.getMessage());
+        out.append("\r\n");
+    }
+
+    private void start() throws IOException {
+        if (!started) {
+            out.append(HEADER);
+            started = true;
+        }
+    }
+
+    private void field(String value) throws IOException {
+        var quoted = false;
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            var c = value.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+
+        if (!quoted) {
+            out.append(value);
+            return;
+        }
+
+        out.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+}
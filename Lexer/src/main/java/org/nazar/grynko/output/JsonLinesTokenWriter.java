@@ -0,0 +1,82 @@
+package org.nazar.grynko.output;
+
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.TokenType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+
+// One JSON object per line, the "kind" field tells files, tokens and invalid tokens apart
+public class JsonLinesTokenWriter extends TokenWriter {
+
+    public JsonLinesTokenWriter(Writer out) {
+        super(out);
+    }
+
+    @Override
+    public void file(Path path, boolean parsed) throws IOException {
+        out.append("{\"kind\":\"file\",\"path\":");
+        string(path.toString());
+        out.append(",\"parsed\":").append(Boolean.toString(parsed)).append("}\n");
+    }
+
+    @Override
+    public void token(int index, TokenType type, String value, int row, int col) throws IOException {
+        out.append("{\"kind\":\"token\",\"index\":").append(Integer.toString(index))
+                .append(",\"type\":\"").append(type.name())
+                .append("\",\"value\":");
+        string(value);
+        out.append(",\"row\":").append(Integer.toString(row))
+                .append(",\"col\":").append(Integer.toString(col))
+                .append(",\"length\":").append(Integer.toString(value.length()))
+                .append("}\n");
+    }
+
+    @Override
+    public void invalid(int index, InvalidToken token) throws IOException {
+        out.append("{\"kind\":\"invalid\",\"index\":").append(Integer.toString(index))
+                .append(",\"value\":");
+        string(token.getValue());
+        out.append(",\"row\":").append(Integer.toString(token.getRow()))
+                .append(",\"col\":").append(Integer.toString(token.getCol()))
+                .append(",\"message\":");
+        string(token.getMessage());
+        out.append("}\n");
+    }
+
+    private void string(String value) throws IOException {
+        out.append('"');
+
+        var from = 0;
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') continue;
+
+            out.append(value, from, i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    out.append(String.format("\\u%04x", (int) c));
+            }
+            from = i + 1;
+        }
+
+        out.append(value, from, value.length()).append('"');
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.nazar.grynko.output;
+
+import java.io.Writer;
+
+public enum OutputFormat {
+
+    TEXT("text"),
+    JSON_LINES("jsonl"),
+    CSV("csv");
+
+    private final String name;
+
+    OutputFormat(String name) {
+        this.name = name;
+    }
+
+    public static OutputFormat getByName(String name) {
+        for (var format: values()) {
+            if (format.name.equals(name)) {
+                return format;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown output format: " + name);
+    }
+
+    public TokenWriter writer(Writer out) {
+        switch (this) {
+            case JSON_LINES:
+                return new JsonLinesTokenWriter(out);
+            case CSV:
+                return new CsvTokenWriter(out);
+            default:
+                return new TextTokenWriter(out);
+        }
+    }
+
+}
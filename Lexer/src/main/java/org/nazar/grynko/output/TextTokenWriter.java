@@ -0,0 +1,79 @@
+package org.nazar.grynko.output;
+
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.TokenType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+
+// The human-readable report, line for line the same as printing through System.out
+public class TextTokenWriter extends TokenWriter {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    public TextTokenWriter(Writer out) {
+        super(out);
+    }
+
+    @Override
+    public void file(Path path, boolean parsed) throws IOException {
+        out.append("########## ").append(path.toString()).append(" ##########").append(LINE_SEPARATOR);
+        if (!parsed) {
+            out.append("File wasn't parsed completely").append(LINE_SEPARATOR);
+        }
+    }
+
+    @Override
+    public void token(int index, TokenType type, String value, int row, int col) throws IOException {
+        out.append(Integer.toString(index))
+                .append(". ")
+                .append(type.name())
+                .append(": '")
+                .append(value)
+                .append("' [")
+                .append(Integer.toString(row))
+                .append(":")
+                .append(Integer.toString(col))
+                .append("] ")
+                .append("length ")
+                .append(Integer.toString(value.length()))
+                .append("\n");
+    }
+
+    // The report has always numbered every invalid token 0
+    @Override
+    public void invalid(int index, InvalidToken token) throws IOException {
+        out.append("0. '")
+                .append(token.getValue())
+                .append("'")
+                .append(" [")
+                .append(Integer.toString(token.getRow()))
+                .append(":")
+                .append(Integer.toString(token.getCol()))
+                .append("] ")
+                .append(token.getMessage())
+                .append("\n");
+    }
+
+    @Override
+    public void beginTokens() throws IOException {
+        out.append("========== TOKENS ==========").append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void endTokens() throws IOException {
+        out.append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void beginInvalid() throws IOException {
+        out.append("========== INVALID ==========").append(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void endInvalid() throws IOException {
+        out.append(LINE_SEPARATOR);
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.nazar.grynko.output;
+
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.SymbolTable;
+import org.nazar.grynko.TokenStream;
+import org.nazar.grynko.TokenType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+
+// Writes token and error records one by one, nothing but the writer's buffer is kept in memory
+public abstract class TokenWriter implements Closeable {
+
+    protected final Writer out;
+
+    protected TokenWriter(Writer out) {
+        this.out = out;
+    }
+
+    public void write(TokenStream tokens, SymbolTable table, List<InvalidToken> invalid) throws IOException {
+        beginTokens();
+        var cursor = tokens.cursor();
+        while (cursor.next()) {
+            token(cursor.index(), cursor.type(), table.get(cursor.symbol()), cursor.row(), cursor.col());
+        }
+        endTokens();
+
+        write(invalid);
+    }
+
+    public void write(List<InvalidToken> invalid) throws IOException {
+        beginInvalid();
+        for (int i = 0; i < invalid.size(); i++) {
+            invalid(i, invalid.get(i));
+        }
+        endInvalid();
+    }
+
+    // Starts the records of one file in batch mode, in single-file mode it follows them
+    public abstract void file(Path path, boolean parsed) throws IOException;
+
+    public abstract void token(int index, TokenType type, String value, int row, int col) throws IOException;
+
+    public abstract void invalid(int index, InvalidToken token) throws IOException;
+
+    public void beginTokens() throws IOException {
+    }
+
+    public void endTokens() throws IOException {
+    }
+
+    public void beginInvalid() throws IOException {
+    }
+
+    public void endInvalid() throws IOException {
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+}
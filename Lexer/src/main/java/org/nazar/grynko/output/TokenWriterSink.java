@@ -0,0 +1,45 @@
+package org.nazar.grynko.output;
+
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.SymbolTable;
+import org.nazar.grynko.TokenSink;
+import org.nazar.grynko.TokenType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Writes tokens as soon as the lexer emits them. Every format lists invalid tokens after the tokens,
+// so those are kept until the caller writes them.
+public class TokenWriterSink implements TokenSink {
+
+    private final TokenWriter writer;
+    private final SymbolTable table;
+    private final List<InvalidToken> invalid = new ArrayList<>();
+    private int index;
+
+    public TokenWriterSink(TokenWriter writer, SymbolTable table) {
+        this.writer = writer;
+        this.table = table;
+    }
+
+    @Override
+    public void onToken(TokenType type, int row, int col, int offset, int length, int symbol) {
+        try {
+            writer.token(index++, type, table.get(symbol), row, col);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onInvalid(InvalidToken token) {
+        invalid.add(token);
+    }
+
+    public List<InvalidToken> getInvalid() {
+        return invalid;
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.nazar.grynko.lexer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChunkedParserTest {
+
+    private static final int[] CHUNK_LINES = {1, 2, 3, 7, 50};
+    // Comments and strings open across chunk boundaries, nested comments, and a comment left open at the end
+    private static final String CROSSING = "let a = 1\n/* one\ntwo /* nested\nthree */ four\n*/ var b = \"\"\"\n"
+            + "text /* not a comment\n\"\"\"\nlet c = \"open\nfunc f() { // line\n}\n\"\"\"\n\n\n\"\"\" + x\n"
+            + "/* a\n\n\n\n\n\n\n\n b */ as? try!\n/* left open\n\n";
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @TempDir
+    Path directory;
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void inputMatchesSequentialParse() {
+        checkChunks(Fixtures.INPUT);
+    }
+
+    @Test
+    void crossingRegionsMatchSequentialParse() throws IOException {
+        checkChunks(Files.writeString(directory.resolve("crossing.swift"), CROSSING));
+    }
+
+    @Test
+    void repeatedInputMatchesSequentialParse() throws IOException {
+        var source = Fixtures.read(Fixtures.INPUT).repeat(3) + CROSSING.repeat(2);
+        checkChunks(Files.writeString(directory.resolve("repeated.swift"), source));
+    }
+
+    private static void checkChunks(Path path) {
+        var sequential = new Lexer(Fixtures.CONFIG);
+        sequential.setRecordCheckpoints(true);
+        var parsed = sequential.parse(path.toString());
+
+        for (var chunkLines : CHUNK_LINES) {
+            var parallel = new Lexer(Fixtures.CONFIG);
+            parallel.setRecordCheckpoints(true);
+
+            assertEquals(parsed, parallel.parseParallel(path.toString(), POOL, chunkLines));
+            assertEquals(dump(sequential), dump(parallel), "chunk lines " + chunkLines);
+        }
+    }
+
+    // The text dump with the symbol ids and the checkpoints of every line
+    private static String dump(Lexer lexer) {
+        var sb = new StringBuilder(Fixtures.dump(lexer));
+
+        var tokens = lexer.getTokenStream();
+        for (int i = 0; i < tokens.size(); i++) {
+            sb.append(tokens.offset(i)).append(' ').append(tokens.length(i)).append(' ').append(tokens.symbol(i))
+                    .append('\n');
+        }
+
+        var checkpoints = lexer.getCheckpoints();
+        for (int row = 0; row < checkpoints.size(); row++) {
+            sb.append("line ").append(checkpoints.offset(row)).append(' ').append(checkpoints.token(row))
+                    .append(' ').append(checkpoints.invalid(row)).append(' ').append(checkpoints.state(row));
+            for (int level = 0; level < checkpoints.cacheDepth(row); level++) {
+                sb.append(' ').append(checkpoints.cacheKind(row, level));
+            }
+            sb.append('\n');
+        }
+
+        return sb.toString();
+    }
+
+}
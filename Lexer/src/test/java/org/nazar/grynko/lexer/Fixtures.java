@@ -0,0 +1,50 @@
+package org.nazar.grynko.lexer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+final class Fixtures {
+
+    static final Path INPUT = Path.of("src/main/resources/input.swift");
+    static final List<String> OPERATORS = readWords("src/main/resources/operators.txt");
+    static final List<String> KEYWORDS = readWords("src/main/resources/keywords.txt");
+    static final List<String> PUNCTUATIONS = readWords("src/main/resources/punctuations.txt");
+    static final LexerConfig CONFIG = LexerConfig.build(OPERATORS, KEYWORDS, PUNCTUATIONS);
+
+    private Fixtures() {
+    }
+
+    static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Types, positions and texts of the tokens and the invalid tokens of the lexer
+    static String dump(Lexer lexer) {
+        var sb = new StringBuilder();
+        for (var token : lexer.getTokens()) {
+            sb.append(token.getType()).append(' ').append(token.getRow()).append(':').append(token.getCol())
+                    .append(' ').append(lexer.getSymbolTable().get(token.getSymbolTableIndex())).append('\n');
+        }
+        for (var token : lexer.getInvalid()) {
+            sb.append("invalid ").append(token.getRow()).append(':').append(token.getCol()).append(' ')
+                    .append(token.getValue()).append(' ').append(token.getMessage()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static List<String> readWords(String path) {
+        try {
+            return Files.readAllLines(Path.of(path)).stream().map(String::trim).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
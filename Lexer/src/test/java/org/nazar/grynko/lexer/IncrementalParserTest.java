@@ -0,0 +1,99 @@
+package org.nazar.grynko.lexer;
+
+import org.junit.jupiter.api.Test;
+import org.nazar.grynko.InvalidList;
+import org.nazar.grynko.InvalidToken;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class IncrementalParserTest {
+
+    private static final String[] FRAGMENTS = {"", "x", " ", "\n", "/*", "*/", "\"\"\"", "\"", "let a = 1\n", "\n\n",
+            "// c\n", "b */ c", "\r\n", "as?", "..", "\u00e9"};
+    private static final int EDITS = 40;
+
+    @Test
+    void chainedEditsMatchFreshParse() {
+        var source = Fixtures.read(Fixtures.INPUT);
+        for (long seed = 0; seed < 20; seed++) {
+            checkEdits(source, new Random(seed));
+        }
+    }
+
+    @Test
+    void chainedEditsOfSmallSourceMatchFreshParse() {
+        var source = "let a = 1\n/* b\n c */ var s = \"\"\"\nx\n\"\"\"\n\"open\nfunc f() {}\n";
+        for (long seed = 0; seed < 200; seed++) {
+            checkEdits(source, new Random(seed));
+        }
+    }
+
+    @Test
+    void invalidTokensBehindGapKeepIdentity() {
+        var invalid = new InvalidList();
+        for (int row = 0; row < 4; row++) {
+            invalid.add(new InvalidToken("#", "Invalid character", row, 0));
+        }
+
+        // Two rows inserted in front of the second token, the last two end up behind the gap
+        invalid.replace(1, 1, List.of(), 2);
+        var token = invalid.get(3);
+        token.setCol(5);
+
+        assertSame(token, invalid.get(3));
+        assertEquals(5, token.getRow());
+        assertEquals(5, invalid.get(3).getCol());
+
+        // Moving the gap over the token keeps the object and its rows
+        invalid.replace(0, 0, List.of(new InvalidToken("$", "Invalid character", 0, 0)), 1);
+        assertSame(token, invalid.get(4));
+        assertEquals(6, token.getRow());
+    }
+
+    private void checkEdits(String source, Random random) {
+        var lexer = new Lexer(Fixtures.CONFIG);
+        lexer.setRecordCheckpoints(true);
+        lexer.parseSource(source);
+
+        for (int i = 0; i < EDITS; i++) {
+            var checkpoints = lexer.getCheckpoints();
+            var text = lexer.getSource().toString();
+
+            var startRow = random.nextInt(checkpoints.size());
+            var endRow = Math.min(checkpoints.size() - 1, startRow + random.nextInt(3));
+            var startCol = random.nextInt(lineLength(text, checkpoints.offset(startRow)) + 1);
+            var endCol = random.nextInt(lineLength(text, checkpoints.offset(endRow)) + 1);
+            if (startRow == endRow && endCol < startCol) {
+                var col = startCol;
+                startCol = endCol;
+                endCol = col;
+            }
+            var replacement = FRAGMENTS[random.nextInt(FRAGMENTS.length)]
+                    + FRAGMENTS[random.nextInt(FRAGMENTS.length)];
+            var edit = new TextEdit(startRow, startCol, endRow, endCol, replacement);
+
+            var relexed = lexer.relex(edit);
+            var fresh = new Lexer(Fixtures.CONFIG);
+            var parsed = fresh.parseSource(lexer.getSource().toString());
+
+            assertEquals(parsed, relexed, edit::toString);
+            assertEquals(Fixtures.dump(fresh), Fixtures.dump(lexer), edit::toString);
+            if (!parsed) {
+                return;
+            }
+        }
+    }
+
+    private static int lineLength(String text, int offset) {
+        var end = offset;
+        while (end < text.length() && text.charAt(end) != '\n' && text.charAt(end) != '\r') {
+            end++;
+        }
+        return end - offset;
+    }
+
+}
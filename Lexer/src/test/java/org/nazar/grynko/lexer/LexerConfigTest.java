@@ -0,0 +1,72 @@
+package org.nazar.grynko.lexer;
+
+import org.junit.jupiter.api.Test;
+import org.nazar.grynko.automate.KeywordHash;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LexerConfigTest {
+
+    @Test
+    void imageRoundTripKeepsAutomateRecognizer() throws IOException {
+        var loaded = roundTrip(Fixtures.CONFIG);
+
+        assertSame(loaded.keywords(), loaded.keywordRecognizer());
+        assertArrayEquals(image(Fixtures.CONFIG), image(loaded));
+        assertEquals(lex(Fixtures.CONFIG), lex(loaded));
+    }
+
+    @Test
+    void imageRoundTripKeepsKeywordHash() throws IOException {
+        var config = Fixtures.CONFIG.withKeywordHash();
+        var loaded = roundTrip(config);
+
+        assertInstanceOf(KeywordHash.class, loaded.keywordRecognizer());
+        assertArrayEquals(image(config), image(loaded));
+        assertEquals(lex(config), lex(loaded));
+    }
+
+    @Test
+    void truncatedImageIsRejected() throws IOException {
+        var image = image(Fixtures.CONFIG);
+        var truncated = Arrays.copyOf(image, image.length / 2);
+
+        assertThrows(IOException.class, () -> LexerConfig.load(ByteBuffer.wrap(truncated)));
+    }
+
+    @Test
+    void oversizedStateCountIsRejected() throws IOException {
+        var image = image(Fixtures.CONFIG);
+        // The operators automate starts after the magic and the token types fingerprint
+        ByteBuffer.wrap(image).putInt(8, Integer.MAX_VALUE);
+
+        assertThrows(IOException.class, () -> LexerConfig.load(ByteBuffer.wrap(image)));
+    }
+
+    private static LexerConfig roundTrip(LexerConfig config) throws IOException {
+        return LexerConfig.load(new ByteArrayInputStream(image(config)));
+    }
+
+    private static byte[] image(LexerConfig config) throws IOException {
+        var out = new ByteArrayOutputStream();
+        config.save(out);
+        return out.toByteArray();
+    }
+
+    private static String lex(LexerConfig config) {
+        var lexer = new Lexer(config);
+        lexer.parse(Fixtures.INPUT.toString());
+        return Fixtures.dump(lexer);
+    }
+
+}
@@ -0,0 +1,116 @@
+package org.nazar.grynko.lexer;
+
+import org.junit.jupiter.api.Test;
+import org.nazar.grynko.InvalidToken;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LexerTest {
+
+    private static final String SOURCE = "let a = 1\n/* b\n c */ var s = \"x\"\n";
+
+    @Test
+    void retokenizeMatchesParse() {
+        var lexer = checkpointed(SOURCE);
+        var checkpoints = lexer.getCheckpoints();
+        var tokens = lexer.getTokenStream();
+
+        for (int from = 0; from < checkpoints.size(); from++) {
+            if (!checkpoints.isClean(from)) {
+                continue;
+            }
+            var range = lexer.retokenize(from, checkpoints.size());
+            var first = checkpoints.token(from);
+
+            assertEquals(tokens.size() - first, range.tokens().size());
+            for (int i = 0; i < range.tokens().size(); i++) {
+                assertEquals(tokens.type(first + i), range.tokens().type(i));
+                assertEquals(tokens.offset(first + i), range.tokens().offset(i));
+                assertEquals(tokens.symbol(first + i), range.tokens().symbol(i));
+            }
+        }
+    }
+
+    @Test
+    void retokenizeOfEmptyRangeAtEndIsEmpty() {
+        var lexer = checkpointed("let a\nlet b\n");
+        var size = lexer.getCheckpoints().size();
+
+        var range = lexer.retokenize(size, size);
+
+        assertTrue(range.tokens().isEmpty());
+        assertTrue(range.invalid().isEmpty());
+    }
+
+    @Test
+    void retokenizeRejectsRowsOutOfSource() {
+        var lexer = checkpointed("let a\nlet b\n");
+        var size = lexer.getCheckpoints().size();
+
+        assertThrows(IllegalArgumentException.class, () -> lexer.retokenize(size, size + 1));
+        assertThrows(IllegalArgumentException.class, () -> lexer.retokenize(1, 0));
+    }
+
+    @Test
+    void retokenizeKeepsSymbolTable() {
+        var lexer = checkpointed(SOURCE);
+        var size = lexer.getSymbolTable().size();
+
+        // Starting inside the comment makes its rest a new symbol
+        var range = lexer.retokenize(2, lexer.getCheckpoints().size());
+
+        assertEquals(size, lexer.getSymbolTable().size());
+        assertTrue(range.symbolTable().size() > size);
+    }
+
+    @Test
+    void tokenizeRoutesInvalidTokensToConsumer() {
+        var source = "let a = 1 # 2\nvar b = 0x\n/* open\n";
+        var parsed = new Lexer(Fixtures.CONFIG);
+        assertTrue(parsed.parseSource(source));
+
+        var lexer = new Lexer(Fixtures.CONFIG);
+        var invalid = new ArrayList<InvalidToken>();
+        try (var tokens = lexer.tokenize(new StringReader(source), invalid::add)) {
+            assertEquals(parsed.getTokenStream().size(), tokens.count());
+        }
+
+        assertFalse(invalid.isEmpty());
+        assertTrue(lexer.getInvalid().isEmpty());
+        assertEquals(describe(parsed.getInvalid()), describe(invalid));
+    }
+
+    @Test
+    void parseReplacesResultsOfPreviousSource() {
+        var lexer = new Lexer(Fixtures.CONFIG);
+        assertTrue(lexer.parseSource("let a = 1\nlet b = 2\nlet c = 3 #\n"));
+        assertTrue(lexer.parseSource("x"));
+
+        var fresh = new Lexer(Fixtures.CONFIG);
+        assertTrue(fresh.parseSource("x"));
+
+        assertEquals(Fixtures.dump(fresh), Fixtures.dump(lexer));
+        assertEquals(fresh.getSymbolTable().size(), lexer.getSymbolTable().size());
+    }
+
+    private static List<String> describe(List<InvalidToken> invalid) {
+        return invalid.stream()
+                .map(token -> token.getRow() + ":" + token.getCol() + " " + token.getValue() + " " + token.getMessage())
+                .toList();
+    }
+
+    private static Lexer checkpointed(String source) {
+        var lexer = new Lexer(Fixtures.CONFIG);
+        lexer.setRecordCheckpoints(true);
+        assertTrue(lexer.parseSource(source));
+        return lexer;
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.nazar.grynko.lexer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MultilineTextTest {
+
+    private static final String SOURCE = "x /* a\r\nb\rc\n\nd */ y";
+    private static final int START = 2;
+    private static final int END = SOURCE.length() - 2;
+    // Every break of the range written as backslash and n
+    private static final String EXPECTED = "/* a\\nb\\nc\\n\\nd */";
+
+    @Test
+    void breaksAreWrittenAsEscapes() {
+        var text = new MultilineText(SOURCE, START, END);
+
+        assertEquals(EXPECTED.length(), text.length());
+        assertEquals(EXPECTED, text.toString());
+    }
+
+    @Test
+    void charAtReadsBackwards() {
+        var text = new MultilineText(SOURCE, START, END);
+
+        for (int i = text.length() - 1; i >= 0; i--) {
+            assertEquals(EXPECTED.charAt(i), text.charAt(i));
+        }
+        // Forwards again after jumping back
+        assertEquals(EXPECTED.charAt(7), text.charAt(7));
+        assertEquals(EXPECTED.charAt(2), text.charAt(2));
+        assertEquals(EXPECTED.charAt(12), text.charAt(12));
+    }
+
+    @Test
+    void hashMatchesString() {
+        var text = new MultilineText(SOURCE, START, END);
+        assertEquals(text.toString().hashCode(), text.hash());
+
+        var single = new MultilineText("/**/", 0, 4);
+        assertEquals("/**/".hashCode(), single.hash());
+
+        // A lone \r at the end of the range is one break
+        var trailing = new MultilineText("a\r", 0, 2);
+        assertEquals("a\\n", trailing.toString());
+        assertEquals("a\\n".hashCode(), trailing.hash());
+    }
+
+}
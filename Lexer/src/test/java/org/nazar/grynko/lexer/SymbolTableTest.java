@@ -0,0 +1,61 @@
+package org.nazar.grynko.lexer;
+
+import org.junit.jupiter.api.Test;
+import org.nazar.grynko.SymbolTable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class SymbolTableTest {
+
+    // Enough symbols to rehash the table a few times
+    private static final int SYMBOLS = 2000;
+
+    @Test
+    void internIsStableAndIdsAreDense() {
+        var table = new SymbolTable();
+
+        for (int i = 0; i < SYMBOLS; i++) {
+            assertEquals(i, table.intern("s" + i));
+        }
+        for (int i = 0; i < SYMBOLS; i++) {
+            var source = "let s" + i + " = 1";
+            assertEquals(i, table.intern(source, 4, 4 + ("s" + i).length()));
+            assertEquals("s" + i, table.get(i));
+        }
+        assertEquals(SYMBOLS, table.size());
+    }
+
+    @Test
+    void tableOverBaseKeepsBase() {
+        var base = new SymbolTable();
+        base.intern("let");
+        base.intern("a");
+
+        var table = new SymbolTable(base);
+        var b = table.intern("b");
+
+        assertEquals(1, table.intern("a"));
+        assertEquals(2, b);
+        assertEquals("b", table.get(b));
+        assertEquals("let", table.get(0));
+        assertEquals(2, base.size());
+        assertEquals(3, table.size());
+    }
+
+    @Test
+    void lazySymbolBecomesString() {
+        var table = new SymbolTable();
+        var text = new StringBuilder("/* a\\nb */");
+        var id = table.internLazily(text, text.toString().hashCode());
+
+        assertInstanceOf(String.class, table.get(id));
+        assertEquals("/* a\\nb */", table.get(id));
+        assertEquals(id, table.intern("/* a\\nb */"));
+
+        // The String is kept once it was read
+        text.setLength(0);
+        assertEquals("/* a\\nb */", table.get(id));
+    }
+
+}
@@ -0,0 +1,126 @@
+package org.nazar.grynko.lexer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenCacheTest {
+
+    private static final long MAX_BYTES = 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void storedResultIsHit() throws IOException {
+        var cache = new TokenCache(directory, MAX_BYTES, Fixtures.CONFIG);
+        var content = Files.readAllBytes(Fixtures.INPUT);
+        var result = lex(content);
+
+        var key = cache.key(content);
+        cache.store(key, result);
+        var loaded = cache.load(Fixtures.INPUT, key);
+
+        assertTrue(loaded.isPresent());
+        assertEquals(result.parsed(), loaded.get().parsed());
+        assertEquals(dump(result), dump(loaded.get()));
+    }
+
+    @Test
+    void changedFileIsMiss() throws IOException {
+        var cache = new TokenCache(directory, MAX_BYTES, Fixtures.CONFIG);
+        var content = Files.readAllBytes(Fixtures.INPUT);
+        cache.store(cache.key(content), lex(content));
+
+        var changed = (Fixtures.read(Fixtures.INPUT) + "let x = 1\n").getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(cache.load(Fixtures.INPUT, cache.key(changed)).isEmpty());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() throws IOException {
+        var first = "let a = 1\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+        var second = "var b = 2\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        var measure = new TokenCache(directory, MAX_BYTES, Fixtures.CONFIG);
+        var firstKey = measure.key(first);
+        measure.store(firstKey, lex(first));
+        var entry = entries().get(0);
+        Files.setLastModifiedTime(entry, FileTime.fromMillis(0));
+
+        // Room for one entry only
+        var cache = new TokenCache(directory, Files.size(entry) * 3 / 2, Fixtures.CONFIG);
+        var secondKey = cache.key(second);
+        cache.store(secondKey, lex(second));
+
+        assertEquals(1, entries().size());
+        assertTrue(cache.load(Fixtures.INPUT, firstKey).isEmpty());
+        assertTrue(cache.load(Fixtures.INPUT, secondKey).isPresent());
+    }
+
+    @Test
+    void corruptEntryIsDropped() throws IOException {
+        var cache = new TokenCache(directory, MAX_BYTES, Fixtures.CONFIG);
+        var content = Files.readAllBytes(Fixtures.INPUT);
+        var key = cache.key(content);
+        cache.store(key, lex(content));
+
+        var entry = entries().get(0);
+        var bytes = Files.readAllBytes(entry);
+        Files.write(entry, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertTrue(cache.load(Fixtures.INPUT, key).isEmpty());
+        assertFalse(Files.exists(entry));
+    }
+
+    @Test
+    void missingFileIsNotParsed() throws IOException {
+        var batch = new BatchLexer(Fixtures.CONFIG);
+        batch.setCache(new TokenCache(directory.resolve("cache"), MAX_BYTES, Fixtures.CONFIG));
+
+        var result = batch.lex(directory.resolve("missing.swift"));
+
+        assertFalse(result.parsed());
+        assertTrue(result.tokens().isEmpty());
+    }
+
+    private List<Path> entries() throws IOException {
+        try (var list = Files.list(directory)) {
+            return list.filter(path -> path.toString().endsWith(".tokens")).toList();
+        }
+    }
+
+    private static LexerResult lex(byte[] content) {
+        var lexer = new Lexer(Fixtures.CONFIG);
+        var parsed = lexer.parseSource(new String(content, StandardCharsets.UTF_8));
+        return new LexerResult(Fixtures.INPUT, parsed, lexer.getTokenStream(), lexer.getSymbolTable(),
+                lexer.getInvalid());
+    }
+
+    // Types, positions and texts of the tokens and the invalid tokens of a result
+    private static String dump(LexerResult result) {
+        var sb = new StringBuilder();
+        var tokens = result.tokens();
+        for (int i = 0; i < tokens.size(); i++) {
+            sb.append(tokens.type(i)).append(' ').append(tokens.row(i)).append(':').append(tokens.col(i))
+                    .append(' ').append(result.symbolTable().get(tokens.symbol(i))).append('\n');
+        }
+        for (var token : result.invalid()) {
+            sb.append("invalid ").append(token.getRow()).append(':').append(token.getCol()).append(' ')
+                    .append(token.getValue()).append(' ').append(token.getMessage()).append('\n');
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.nazar.grynko.lexer;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The golden dump was written by the lexer from before TokenScanner, the input has every single-line construct the
+// scanner classifies, mixed with "\r" and "\r\n" line breaks
+class TokenScannerTest {
+
+    private static final Path INPUT = Path.of("src/test/resources/scanner/single-line.swift");
+    private static final Path GOLDEN = Path.of("src/test/resources/scanner/single-line.golden");
+
+    @Test
+    void fileMatchesGoldenDump() {
+        var lexer = new Lexer(Fixtures.CONFIG);
+
+        assertTrue(lexer.parse(INPUT.toString()));
+        assertEquals(Fixtures.read(GOLDEN), Fixtures.dump(lexer));
+    }
+
+    @Test
+    void sourceMatchesGoldenDump() {
+        var lexer = new Lexer(Fixtures.CONFIG);
+
+        assertTrue(lexer.parseSource(Fixtures.read(INPUT)));
+        assertEquals(Fixtures.read(GOLDEN), Fixtures.dump(lexer));
+    }
+
+    @Test
+    void keywordHashMatchesGoldenDump() {
+        var lexer = new Lexer(Fixtures.CONFIG.withKeywordHash());
+
+        assertTrue(lexer.parse(INPUT.toString()));
+        assertEquals(Fixtures.read(GOLDEN), Fixtures.dump(lexer));
+    }
+
+}
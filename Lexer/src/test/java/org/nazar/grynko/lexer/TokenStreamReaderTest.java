@@ -0,0 +1,101 @@
+package org.nazar.grynko.lexer;
+
+import org.junit.jupiter.api.Test;
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.SymbolTable;
+import org.nazar.grynko.TokenStream;
+import org.nazar.grynko.TokenStreamReader;
+import org.nazar.grynko.TokenStreamWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenStreamReaderTest {
+
+    private static final int CORRUPTED_STREAMS = 20_000;
+
+    @Test
+    void roundTripKeepsTokens() throws IOException {
+        var lexer = lexInput();
+        var tokens = new TokenStream();
+        var table = new SymbolTable();
+        var invalid = new ArrayList<InvalidToken>();
+
+        read(write(lexer), tokens, table, invalid);
+
+        assertEquals(lexer.getTokenStream().size(), tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            assertEquals(lexer.getTokenStream().type(i), tokens.type(i));
+            assertEquals(lexer.getTokenStream().row(i), tokens.row(i));
+            assertEquals(lexer.getTokenStream().col(i), tokens.col(i));
+            assertEquals(lexer.getSymbolTable().get(lexer.getTokenStream().symbol(i)), table.get(tokens.symbol(i)));
+        }
+        assertEquals(lexer.getInvalid().size(), invalid.size());
+    }
+
+    @Test
+    void truncatedStreamIsRejected() throws IOException {
+        var stream = write(lexInput());
+
+        for (int length = Integer.BYTES; length < stream.length; length++) {
+            var truncated = Arrays.copyOf(stream, length);
+            assertThrows(IOException.class, () -> read(truncated, new TokenStream(), new SymbolTable(),
+                    new ArrayList<>()));
+        }
+    }
+
+    // A corrupted stream is either rejected or gives tokens whose rows and columns can be looked up
+    @Test
+    void corruptedStreamIsRejectedOrReadable() throws IOException {
+        var stream = write(lexInput());
+        var random = new Random(15);
+
+        for (int n = 0; n < CORRUPTED_STREAMS; n++) {
+            var corrupted = stream.clone();
+            for (int k = random.nextInt(4); k >= 0; k--) {
+                corrupted[Integer.BYTES + random.nextInt(corrupted.length - Integer.BYTES)] = (byte) random.nextInt();
+            }
+
+            var tokens = new TokenStream();
+            try {
+                read(corrupted, tokens, new SymbolTable(), new ArrayList<>());
+            } catch (IOException e) {
+                continue;
+            }
+
+            for (int i = 0; i < tokens.size(); i++) {
+                tokens.row(i);
+                tokens.col(i);
+            }
+        }
+    }
+
+    private static Lexer lexInput() {
+        var lexer = new Lexer(Fixtures.CONFIG);
+        lexer.parse(Fixtures.INPUT.toString());
+        return lexer;
+    }
+
+    private static byte[] write(Lexer lexer) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var writer = new TokenStreamWriter(out, lexer.getSymbolTable())) {
+            writer.write(lexer.getTokenStream());
+            writer.write(lexer.getInvalid());
+        }
+        return out.toByteArray();
+    }
+
+    private static void read(byte[] stream, TokenStream tokens, SymbolTable table, List<InvalidToken> invalid)
+            throws IOException {
+        new TokenStreamReader(ByteBuffer.wrap(stream)).readInto(tokens, table, invalid);
+    }
+
+}
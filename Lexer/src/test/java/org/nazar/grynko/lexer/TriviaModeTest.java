@@ -0,0 +1,132 @@
+package org.nazar.grynko.lexer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nazar.grynko.InvalidToken;
+import org.nazar.grynko.SymbolTable;
+import org.nazar.grynko.TokenStream;
+import org.nazar.grynko.TokenStreamReader;
+import org.nazar.grynko.TokenStreamWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TriviaModeTest {
+
+    private static final String SOURCE = "let a = 1 // one\n\t/* two\n three */ var b = \"x\"   \n\n  /* four */\n"
+            + "func f() {}\t// five\n@ bad\n   \n// end\n";
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @TempDir
+    Path directory;
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    void attachedTriviaRebuildSource() throws IOException {
+        for (var path : inputs()) {
+            var lexer = attached(path);
+            checkRebuild(lexer.getTokenStream(), lexer.getSymbolTable(), Fixtures.read(path));
+        }
+    }
+
+    @Test
+    void attachedTriviaSurviveParallelParse() throws IOException {
+        for (var path : inputs()) {
+            var lexer = attached(path);
+            for (var chunkLines : new int[]{1, 3, 50}) {
+                var parallel = new Lexer(Fixtures.CONFIG);
+                parallel.setTriviaMode(TriviaMode.ATTACH);
+                parallel.parseParallel(path.toString(), POOL, chunkLines);
+
+                assertEquals(ranges(lexer.getTokenStream()), ranges(parallel.getTokenStream()));
+                checkRebuild(parallel.getTokenStream(), parallel.getSymbolTable(), Fixtures.read(path));
+            }
+        }
+    }
+
+    @Test
+    void attachedTriviaSurviveBinaryRoundTrip() throws IOException {
+        for (var path : inputs()) {
+            var lexer = attached(path);
+
+            var out = new ByteArrayOutputStream();
+            try (var writer = new TokenStreamWriter(out, lexer.getSymbolTable())) {
+                writer.write(lexer.getTokenStream());
+                writer.write(lexer.getInvalid());
+            }
+            var tokens = new TokenStream();
+            var table = new SymbolTable();
+            new TokenStreamReader(ByteBuffer.wrap(out.toByteArray())).readInto(tokens, table, new ArrayList<>());
+
+            assertEquals(ranges(lexer.getTokenStream()), ranges(tokens));
+            checkRebuild(tokens, table, Fixtures.read(path));
+        }
+    }
+
+    @Test
+    void droppedTriviaAreNotTokens() {
+        var lexer = new Lexer(Fixtures.CONFIG);
+        lexer.setTriviaMode(TriviaMode.DROP);
+        lexer.parseSource(SOURCE);
+
+        for (var token : lexer.getTokens()) {
+            assertTrue(!token.getType().isTrivia(), token::toString);
+        }
+    }
+
+    private Path[] inputs() throws IOException {
+        return new Path[]{Fixtures.INPUT, Files.writeString(directory.resolve("trivia.swift"), SOURCE)};
+    }
+
+    private static Lexer attached(Path path) {
+        var lexer = new Lexer(Fixtures.CONFIG);
+        lexer.setTriviaMode(TriviaMode.ATTACH);
+        lexer.parse(path.toString());
+        return lexer;
+    }
+
+    // The ranges [leading, trailing) follow each other, hold their token and with the trivia after the last one make
+    // up the source
+    private static void checkRebuild(TokenStream tokens, SymbolTable table, String source) {
+        assertTrue(tokens.size() > 0);
+
+        var rebuilt = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) {
+            assertEquals(i == 0 ? 0 : tokens.trailing(i - 1), tokens.leading(i), "token " + i);
+            assertTrue(!tokens.type(i).isTrivia(), "token " + i);
+
+            // Multiline texts keep their line breaks escaped
+            var text = source.substring(tokens.offset(i), tokens.offset(i) + tokens.length(i));
+            if (text.indexOf('\n') < 0) {
+                assertEquals(table.get(tokens.symbol(i)), text, "token " + i);
+            }
+            rebuilt.append(source, tokens.leading(i), tokens.trailing(i));
+        }
+        rebuilt.append(source, tokens.trailing(tokens.size() - 1), source.length());
+
+        assertEquals(source, rebuilt.toString());
+    }
+
+    private static String ranges(TokenStream tokens) {
+        var sb = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) {
+            sb.append(tokens.leading(i)).append(' ').append(tokens.offset(i)).append(' ').append(tokens.length(i))
+                    .append(' ').append(tokens.trailing(i)).append('\n');
+        }
+        return sb.toString();
+    }
+
+}
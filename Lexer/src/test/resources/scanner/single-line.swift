@@ -0,0 +1,1375 @@
+)' !==as? "a\"b"try! ??= "a\"b"42tryfoo_bar` try
+< _a  	 @Type&&=>>>! >..."abc" "a\"b"**=... 
++&&=func==3.14)   
+> try tryx1.@
+  | ( 
+1.{~"a\"b" foo_bar var 
+$0 =_a"" "}   x(?日本_a>>>>>>as!
+&&=as  < 1._alet >>>		 "é日" ==== "é日" >>}<=>,# try!==  	  
+1\... **=$0try "é日"+
+=>! try?[asx 3.14 "é日" try?. _a 
+1 >>[ ...	**=as!* "" @ "abc" 
+=># var日本 #-> 
+-> 		try? $ ,
+xfunc=== "é日" **=@  ==||=&&=??= &
+[ 	"" "٣>> 1.
+\ "abc"as!
+#12ab < 1"a\"b""abc"日本\ 1.let@Type"" " ( ||=
+@Type<1  <<=>^>>*===
+"a\\" 0x1F}"é日"
+  	 @^"" "é日" 日本#..
+日本 asx$ ٣
++日本"abc"foo_bar { étry!as! &1.2.3&>é }var - 0x1F  asx<"abc"
+"")!== > as? try' ]~"é日"[ asx 1""+ ; 
+日本 foo_bar as?& "a\\"try?.5'=.0x1F @Type 
+"a\\" ,//c..<1.2.3trytry?)"" x&  é é
+"é日"421.2.3??=x $0foo_bar} 
+x<=>~		`
+日本 "abc"  	 #tryvar $0 "a\"b"tryx é@ &&=
+naïve   "" `٣  foo_bar#?_a =="" "==#&&=3.14
+]1. ;1 &&= /
+  	  "abc"..< ->..."abc" <=>._a"" "x
+.5 >>
+>>
+try! <=> -_a -> 42)
+=>٣..é &&= !=== )try!==(-> #
+
+**=( 1 
+,  <=> 
+..<é>>  	 = tryx 
+""
+tryx as?..<		???<=><#<<=[ 
+try? ||= // comment, try 3.14é&&=42 ->
+$0) ??=> \..<===>>>日本>.._a""&&=_a..$ }}"abc" 
+**=!3.14x%..<<<= ( 
+~"abc"||=&&=日本    é as ;;
+` @ é=>trylet // comment
+as
+foo_bar
+  # 1.2.3$0 `
+<..<
+**= {/( *<<= 
+asx\ "abc"~日本
+func日本_a+==$0as< 
+
+] ~ { >>> ??=
+		||== try?* >>>=>12abtry? 1.<<=
+.5"a\"b".@  
+) let ][>_a 1.2.3 ===	var_a 
+// comment..<*'$0&is??0x1Ftry?
+	 42..< // comment'@Type ]"unterminated<<===naïve ^ 
+= 日本 | _a   1"é日""unterminated as? >>
+} { ٣.. _avar*
+(@`var."é日" ] 
+as!1.is "a\"b" "a\"b" try{ func!== é 
+??"" "-'
+??tryx * ?->as!+٣
+asx 1 |-> _a+1.2.3  	 $		;_aas?{ 1try x=>{ "abc"
+)..<->**=..//c,<=>
+|==??var<? *"a\\"
+= .. === 
+=""try! 0x1F]***=&|"abc" isas?//c
+>>>  	 tryx(
+<<= //cfoo_bar^.5 ""-... try!^ ??
+12ab &&= =٣ //c ]foo_bar
+1.var
+func ...||= 
+	&&= ? ~
+||=?\**=**= ٣1.2.3<<=as%~$0 
+??!.5=>=>42 *  	    	  "" "/ ===
+.. ٣ 0x1F - as! # , ) 3.14
+<=>-.tryx '* $<é12abé*]try!
+= ? ^as?try&&="é日"
+\ [{ is as? & 
+#is1.2.3 is asx1. 
+
+x "a\\"\..%' ٣;// comment . * 
+"abc"// comment ٣"" "
+* "a\"b"// comment
+!
+
+<<=٣ as3.14.=> 3.14$ ~ 
+try!...is naïve<=>= é,x/try? 
+"a\"b"&&=lettry==//cas?< 
+12ab?? asx "" " !
+||= "unterminated=== >> 
+0x1F]é? 12ab >>> 日本 \` 
+try!.."" asxasx / =    "abc"& !
+日本 "a\\"%+ ^""1.
+=>+}=<0x1F%\
+"unterminatedas '  ??=var//c'$0
+
+   1.42*+ func 
+٣3.14!is=>日本	 &@// comment"a\"b"٣ 
+>>>naïve[ >>func x"unterminated		~
+}  	  @Typeéas //c&&= ~..... ! 
+asxtry! as1.  ~3.14 日本+.==="a\\" "é日"é
+try? !== é$ , 
+
+->xtryx;}, is @ +**= @Type\ var
+1. 
+"unterminated@Type] 3.14x٣<=> 	
+as?_a^let% ||=٣ 
++ "a\\"
+*try? ...foo_bar日本	 
+&{=="é日" tryx.. é try? }&&=<=> 
+!== . ?foo_bar{ ,& naïve) ??=1.2.3 ;(
+*日本**=try!
+"a\\"||=<<= //c[ **=try! ] ..
+
+"unterminated ...>% 
+.#[????
+- // comment é ("a\\"$0=> 3.14
+]-??=12ab<=>is..&|;tryx // comment
+>> _a%  		x
+...- ||=
+try? 		 _a{asx`<<=//c
+"" "  ==>>""12ab 1@Type
+&_a "unterminated' }-
+, >>**=[ 
+&	 ,"unterminated is`#$0 42asx 
+
+_a ~ ||====	 ٣x <<===
+\ !as !==||= "unterminated 10x1Ftry?>let [{"a\\"// comment"unterminated ||= ->
+1"é日"??=..<try%12ab) naïve <=>= 1.2.3? &&= 
+; ||= ..<<=^3.14??=>>//c12ab 
+try! 
+asx ""**=42 ||=tryx**=x [ '?? }@Type  	 "unterminated    >>> =>
+0x1F;
+# \try 
+1.2.3 \{ 0x1Fis42 [
+->"" ""abc"**=(>$
+==! as // comment( **=?? [
+"unterminated func//cfoo_bar
+, 3.14
+
+`  	  3.14 >>>12abtry '  =>
+"unterminated} ??= ??-
+	<=> 3.14  ,3.14try!1. ===_a"" "
+	 
+
+|\# } }42 ||=
+||=$$0
+"a\"b"== try' 3.14 
+
+>>""   12abtry!?-(foo_bar 
+<<=, 
+
+try!*"a\\"-){( 
+// comment
+}{;[\??"é日" 3.14"a\\" naïve as? [ 
+' as12ab&+ "é日" < try 
+=== //casx!==?? 日本 ,naïve-> 42 
+!}%! 日本 = as1.2.3&&=>>
+"a\\" 
+"abc"[ .
+>>> ..< _a try? =>   
+// comment var3.143.14		"a\\"->..日本 <=> é/
+é$)
+3.14 >>> }#asx..as?
+"" "
+  is (.5
+.as 
+}??= ]?? )**=0x1F
+- naïve astry?		@?\ "unterminated_atry! <=> ->
+*>>>||=^;&&= 0x1F 
+  	 "unterminatedas			naïve	, ...'é%
+&&= ??=tryx @->42"a\"b" ==(??@Typenaïve
+@Type try<=> ${ >as! ) ` ->+??
+// comment>>..42
+(.. )-,&foo_bar>>>(1>
+//c "unterminated1.<<=try? 0x1F٣asx
+.._a  	  ]>"unterminated* ?tryx ===日本..<é
+< try..."a\\",12ab
+naïve ! 1as?naïveéfunc->->as! %} "unterminated=> 
+""// comment "abc"	 ||= ? `
+as!12ab 12ab*x^<<=..."" as!
+> <<=*=>` as? as?/"unterminated 
+@ &&=>>foo_bar		vartry!
+||=????=<=>+>- `   	  é ??
+var>>>naïve42;1.2.3 ]+ try! 
+$0\"a\"b"1try? %!==>|'as!`1.2.3"abc" 
+!..< &
+/ 3.14*@===
+,"é日" var..<{]		
+try? # 0x1F-> $0 funcas?`#'
+`  	 42 - x |func{ try! 
+"abc" => asx42> "é日" {""%    
+
+
+??==[func;>>>=
+is try?;
+42٣. ;;) "abc"?..<
+
+>> [1-"é日" 12ab $0==@1^-..<"" "..."a\\"x asx.5 ===+??= 
+3.14*٣try![
+? ...@Type**=* >> !==asx let+ !
+.try+"é日" é.5 @
+
+funcas""		_a12ab3.14) let٣"" ".
+   try!_atryx % >>==="unterminated1.日本 ....5<\ #'3.14 } 
+try? as ~ ||= >> "a\"b" @ is"" "@Type0x1F1 1.
+let { #let< > 42		 & **= -func
+,=>/٣$0as?>>>"a\"b"; > as?_a 
+??@ @Type"unterminatedis<=> ~
+  	  =>// comment ^.5asxnaïve{ ...!==
+func! 
+//c try? ==).5"a\\"  	 foo_bar-"" "
+>>>.5    ..= ??=$0 
+$0 as '# try// comment.. =>is3.14=> ??[<=> 
+{; 		  12ab .5 . 1"" @\as!+
+"unterminated ` 
+==
+=== @    ' ===!==
+$\%<=>foo_bar ??=|& 
+%as! <=> //c # < 
+!==<<="" "tryx~! "a\\""é日" ~ ٣٣// comment 
+# !==@"a\\" "" =>日本 
+"" " (1try!_a$ / 
+=^&&=??= // comment$0; foo_bar
+"a\"b"{try }}..1.<日本٣try?* try try
+>naïve>
+-
+$0 <~ is1.\let ] asx  ٣ 	#=== &"abc"
+	;;"" " }"" let==== "unterminated( \_a 
+3.143.14 <=> is $0
+"é日"- 
+... _a1. 1.2.3== === $-12ab ![)x 
+try! is naïve 12ab  let` 
+// comment~.5@=>try!var
+<<= }` x 
+		 .5   	 ->? @ letnaïve||= is //c '
+naïve &&=+ 3.14&
+foo_bar`naïvefoo_bar==  	  
+% 1 
+!==naïve, is *~ ??	 => _a1=
+1   foo_bar=??= @Type @
+1
+~ `as! ='!==""
+42 > let/->
+try.5 @Type&&=
+)??asx  ٣}1. x 
+naïve>>as?&&=1.日本+ &&=<$0-
+"a\\" ..1. as?日本 ٣ ٣;; #٣ foo_bar/>>>||=1 .<=>..< &
+"é日"try - ""(3.14.. foo_bartry?**=/
+日本->!==// comment \(^
+. _a 'naïve  as let??3.14 
+<&&=.5asx|@ 'asxfunc42@..try? 
+<<= =+ <=>; foo_bartry_ax "a\\") 
+	"" == 
+foo_bar===42,is ===try?...(->??= - é
+as?-1. - ??=.5 
+??try? ! ?é <=>   as?..<//c "é日"@
+try! .5 &&=42 ~ let// comment é< 3.14x=== <<=
+->@Typetry! let[ 1.2.3// comment 
+..<??== 0x1F +naïve)] 
+% ||=; 12ab== 1.2.3?%`asx\$0; **=
+<
+{ _a"é日"_a0x1F&foo_bar
+==#12ab^>>> ... "abc"**=$0...!==
+"" ". 
+"unterminated' as? +
+try? [===let)1.as<=>"a\"b"3.14 ٣"unterminated"a\\"func
+1.==+//c"a\"b"("" " 
+@Type naïve>>日本 @Type.>>>3.14@Type
+1. var .5 -> 0x1F 
+try===\??= 	.51
+try!<<= `==="a\\"  &??= 'var3.14$0 is 
+  	 _a-.5.. %1.2.3. 
+x..,
+. 		 ,lettry _a 1.é <=>func??= 
+===
+??= tryx >>> "a\\"..   ]-
+foo_barfoo_bar foo_bar try?!==letx 42? 1.as! ??=as..<"" ٣1.2.3.5})"abc" ,"" "
+;		 try
+& "" "3.14= == >>
+٣<=>as 1 !) naïve@Type 
+
+naïve**= !@Type	==..`..<$0		 ..< "abc" 
+٣ ...<<=
+func.5+	 try!
+*$
+... ' as! \>>>>>??as*~ / let^ 
+3.14-)	 12abas?* foo_bar, 
+"a\"b"- 		 é 1.-|?? let.. = ) 
+<<=.->?~&//c  // comment & !||=|
+"abc" ^ -٣ ?? '||= is**=]??\try? "abc" 
+=@/}]foo_bartry!->{1. *(
+` %& ->"a\"b" 
+
+.0x1F* & ..>>??=}é? >>>&<[
+*\ ..</ 12abx?? foo_bar日本??=1.
+
+tryxas! "a\\" 		% ~>>> _a% as! 3.14 $!==&==?? >$0 0x1F
+12ab "unterminated === 
+"" "] ~>>>|"é日"-> _atryx try? >
+& var' <<=||====@Type   let
+%"a\\".5 as? 1..<is>>>12ab... | //c $01.2.3
+naïve"" "?.var||=!== %
+try!3.14 "" "
+>> naïve ))日本` @@   	  *
+"a\"b"> .5?? +foo_bar =
+..< {    12ab
+日本->is\3.14 &&= = .}as 3.14 0x1F ) 
+.5 <=>...
+& ; >> &foo_bar@Type 1-> //c 12ab func tryvar)
+<...
+===  	 try?3.14 $??try$as? try? @Type #"unterminated&  	 >> &"a\"b" 0x1F@Type 
+` ?@Type "é日"@Type ` !== @Type..
+try? as? =""@42 
+
+>>>try?
+"a\"b" *42 ??=
+foo_bar %
+\\as!٣try.....<<=>]/	 3.14
+(٣
+
+... func;let foo_baris .
+==="a\"b"^@ var?日本 ! 
+'<=> tryx&&=日本let#~ 
+{
+ ,$ "é日" "a\"b"... ^1=é<-\<=>
+12ab?   	 }]""??
+
+"" "
+é"a\"b"**=try? **= ...->  naïve
+>>< 1.2.33.14var>> var"unterminatedfoo_bar? <**=/ { 
+..<1.. >>>=>+??is>>>> foo_baras
+12ab\-1 as!'42
+1 ??tryx||= tryx// comment **= >>>0x1F 42 func 
+.>>> 
+!"a\"b""unterminated%% '[?
+"" - >>>|  tryx
+|//c% ..<'>[1  0x1Fvar
+!== try?
+, &??=#éis tryx &&= @try!let		@Type
+..< )as?as?foo_bar=== é
+
+"unterminated.tryx 
+=== 
+3.14 
+| + func!   !== 
+|= as? === ' "é日"as? -> .5 ^is.42as
+_anaïve	||=!==    ||=
+)try!"é日"^#}=1. >>  ..... naïve
+<<=(/ /42
+>> % '`112ab;try?*	&&= 
+
+1.try >>>
+"a\"b" ; **=[-' ;		 "" ",%
+>>>1
+42naïvetry
+1. 
+٣		 try!!== 
+
+é 
+<<= try42=> //c& $0func!==
+..<func!==0x1F} "a\\" )!==?? =>' 3.14===#
+%
+<\<=>//c^ ?   <=> **= 0x1Fnaïve try!
+'<-> 
+.....! ?=>-asx naïve **===.. 
+"a\\""a\"b" 
+..< ,}... &1.2.3??=
+@Type	<=>
+**= -...===٣@ "abc",$$0 <is$0 	 
+"" "#
+3.14**={as!{<<= =>3.14 "" "
+( *<=> ^ @Type??~==@( 
+
+.5 >// comment! ' "a\"b" ..'1.2.3<=> )as! 
+as! <=>|tryx let
+//c   	 =&naïve"unterminated] try! as??=as { 
+=== >>
+'as **= 1 >><<= .5  ..<**=try? ~ >{
+... naïve//c# $ | .5)->é.. é (try 
+<<=
+  	 try!"a\\"   "a\\"/=> @Type as? // comment<=><<=func  	  ]*	& 
+===^  	 &&= "é日"日本 <<=>>
+""..<<<= **= !==-> funcvar)(}..<
+try&&= 
+~ ^-foo_bar..<=..<@Type - "unterminated=== 
+_a } &&= ??= 3.14 ||=.>> / ||=try
+""- 3.14var
+as===naïve
+
+x"abc" 12ab===**=1.2.3"unterminated~var1 ==as? ) 
+;}
+
+1. #**=<<= $0} 
+
+x`as!
+=as_a|$!==
+)
+>> `is== as? >>*"" "// comment 		>>>
+   
+`٣>> 
+"unterminated 
+| 
+
+=0x1F
+as? 
+&&=(.5foo_bar^	  	  12ab 
+"abc" ==^12ab1.
+.. 
+<=>functry$0
++ "unterminated -x=>{
+"" )3.14 asx$1.2.3<
+12ab+ asx..**= 42
+...^ ??=...-
+?? $as?tryx "é日" `_a**="" " 
+naïve&try
+===42_a<=>é"abc"42 as( *  ===
+"é日" 日本??# )*^ { 1
+% @Type;
+  $0 "a\"b" ..< 
+!== ?? 
+//c as?try? .5 1_a =日本 "é日"\ 1
+"abc"٣""??= | <=> ||= #3.14 
+||=\. => //c   	 >>> 1. "unterminated 
+$0> 	
+日本// commentfunc.5 日本 ??{\ 	 '"" " func
+#  _a...0x1F is<<=>>>  >
+... 
+tryx( x> ^!==   
+-try!=>// comment  	 func'< as!1.2.3{var		= 
+12ab..5 ,"" "asx @-"abc" try@try?&&= >>
+1.2.3 "" "{ $0 		 +	=foo_bar->   try 
+foo_barlet '"a\"b"&&=>naïve var 
+asx {..<  (>>>< 
+? <=> ]..<@Type@Type //c"é日"
+.5
+
+>>>1@^ = 
+42 
+>> \ as?try ` func( is&日本
+.'1.2.3 
+{
+  	  tryx===[ =><=> &} <=>//c .->
+naïve/||=! >>>... "a\\"    
+!"" "! ""as?\%@Type 
+0x1F.$0 +1.1.2.3.5
+1.( ^12ab=== `
+<<= 
+?
+let ~ ??=== )\ = ,isfunc ??=> | ..[&é | ===
+1		"a\"b"&&=/asx..=@as!"" "/ 
+|42\%
+1`	 }   !&&= ~) as . ""??=>>>
+**=><<=.5$0.5?<=>.5
+.5as? => ! //c 
+.let  == !{ try..."a\"b"!== try?=>is
+var & 1.2.3 | ٣ !==as?"a\"b"$0-
++... ===
+_a"">%!==~ _a=> = 
+1{ ->` . ===
+,
+is[||=1 ||=tryé`var ?;_a?"unterminatedxtryx ?foo_bar"" "..<{
+"" " ٣ 
+٣||== + "a\\".5, ?->>>(
+$0~  
+as! .5 as! @ $0[funcnaïve>!&&=
+	
+< ٣٣)=var??@Type 
+// comment == 
+===> func
+	 "a\\" ) x^ ==>"a\"b" 
+"unterminated!==naïve<=>	@===as!//c 
++ 
+x as""||=&**=
+??.. <=> ? 1== 
+<<=/try!`)٣"" ""a\"b"< "a\"b"' <=>_a
+naïve		42 is <<=
+٣  foo_bar||=asx }	
+>>> {==~
+==  	   \??=]
+try!<=>< -{. =>
+->.5 ( .-> |<=>|===(] ?_a $0 
+let ..>//c.5
+. * , try!>>> try \12ab>>> 	  
+é >>>
+x=>"a\"b"%foo_bartry->0x1Ftry! [é.1!== "a\\"func
+?as?$0 "unterminated"é日"- as?>>>42 ^ 
+as~٣/
+try! 		 - naïve_a??=||=   	    ==as?#"unterminated "a\"b" -> asx '<<= 1.2.3
+-""{// comment"abc"
+,٣ /="abc"3.14**=|;٣ 
+""?// comment<foo_bar ^< "abc"|
+"a\\" ! ===naïve// comment420x1F 
+=3.14try !==var.. "a\\" "a\"b"/| $0		 
+$
+=>~1.2.3"" "
+  	  ^!==""'日本.<=> * "é日" 
+/..
+
+
+` 
+===..<日本+ _a ٣ 
+日本 é_a ? ||=**= //c??="" "1@"abc"42is' 1$0"" "1.2.3é 
+->"a\"b") 
+try?||=//c  	 }==='..<3.14foo_bar
+$"a\\" 		 1 
+$==>>>_a"" ".5>> 
+, <=>is&// commentas!0x1F _a_a $0 trynaïve 
+// comment||=
+) .. x>>>12ab<=>try"" "! is>> 
+٣%
+== "" "!== ~
+1.2.3// comment is
+> ??, asx$ as!   1.2.3 ==日本 
+?,=> <=>
+% ) 1 1."abc"try! 12ab   naïve==... 42<<=asx.5 
+, ~. >? try!~{		@Typefoo_bar !
+3.14.=="" "let// comment>>'é42
+<"".5"a\\"naïve varnaïve 
+`"é日"1. .5	
+"abc" 	 as as?日本 % ..
+?=<é, ??="a\\"{ 		 
+ ??=, .5 
+
+		 // comment.5 =>
+===12ab&&=try ..5try$0 as! $0.5 
+  	  "" " 423.14^<=>] 
+"" "||= 0x1F \$naïvefoo_bar ..]
+as? é日本=% =>  	  .. try0x1Ffoo_bar 
+# 
+
+!== #**= 	 "é日"funcnaïve "" "( &!==^$0;
+.. 421.2.3.5"" "..<|}x&~ <=> 1.??=
+=="unterminated).5/ 
+`| _a=||=-> &try?@Type日本 éas!
+??=;foo_bar ?? = )`
+.
+// comment.5=.. < >>>tryx"" " ..
+/_a == . `"" "*#  &&=
+??>]try $naïve]&@Type
+===;  	 %===... 1.2.3"a\\"&&=12ab func ->? ) 
+1as? 1.as? 0x1F (%1 =='
+"" " >>>naïve!
+>>>;let ->>>> //c let	<!== "a\\"
+`}.5| 
+`<<=^ ===,as! "" "||=!==1.2.3
+{ ||=@Type@ $0  ` // commentnaïve
+1.2.3	   as===' var #...
+
+"" "as!~ ==="a\"b" ==		3.14{!{ !==
+12ab<^ +# 0x1F 42é // comment ??=<=>
+- é 		 	 \1.2.3"unterminated 3.14٣??=1.2.3! 
+$>//c"a\"b""a\\"|
+asx**=٣"" ".50x1F
+//c   /@Type// comment$->; 3.14 
+??= ??=naïvenaïve..is//c .. ??=; ""!
+/ 42] _a) + <<=* ""  	  naïve日本 is..<x."" ٣!== as?..< **= ٣@Type<=>
+asx**=as? ??1>??~ > ->"" "[ naïve "abc" '   	 // comment#try?0x1F varfuncnaïve 
+1!== "a\\"
+..<
+$0//c. , &&=;..<)		
+as! @Type _a
+ ,tryx?? 
+& ?//c"a\"b" @@Type 1 is
+== 
+(> "abc"..====== 1  3.14^ >>>""
+===<* éas! $0'42 
+^   > func% 1.2.3 **= [
+,		 \ 日本 try!"é日""unterminated1.2.3,   	  "é日"=~ tryxtry!#%||= { #!'é 		
+..<٣[<=>% ,'   	  is 
+func 
+*"" " 
+ 
++ ||=.@Type == .5 ' foo_bar
+try!日本//c&&=
+	 
+<0x1F
+..<		//c]日本x'( <<=as! [
+=> /var 3.14]>> &&=->1 <<=
+//c		 **= | / ٣]
+   foo_bar}.5 
+( "abc"(_a=> ]
+"a\\"; &,asx //c>>>!==..<=>as
+
+"unterminated 0x1F  	  "a\\" 
+funcfunc* 	 ||=[// comment"" " 12ab42==
+*|
+try!~// comment"unterminated  \!// comment tryxas?==1. 42/ 
+"a\"b" try? 		 ~&&=letx 		
+12ab+ try!@-> 
+* =??(!>>""as .5naïve)
+==="a\\"??=   	 .. 		 as?éasxasxas? [ "a\\" 
+?let ||=// comment > !let	 
+12ab{>>>""let'
+é
+"a\"b" as!日本"é日".5[é( $_a &&=@as?== é("unterminated_a1.2.3 "unterminatedas!// comment 
+"unterminated# ""asx
+as!try! ..< 日本!
+>>>) ^ \ ||= **= asx
+<<= &&=3.14 // comment? @Typeas=>_a.=""//c		 
+,<<=try?>>!==.> 
+tryas?]**=, []naïve&é+/{
+42 &&= let 1.2.3 日本||=< 42
+// comment 42
+=>   asxas!"a\\"<=>>> é......# ^"a\\" 
+foo_bar٣?? <=>func 
+
+		 ?...
+1.2.3?? let *funcasx-> "abc"< >> try?-@ ([//c > 
+
+1 		
+
+foo_bar =>> `-1. ""/ &is!==``
+)>
+try?"unterminated "abc""abc"^ ===\ try 
+/ ."" " &^<=> $0$42x %
+asx
+<=>->>}  @ 42.. 
+...12ab .. -//c
+is=>日本||="unterminatednaïve .>> ?) 
+
+'' {||=# 12ab
+&
+_a var1^"unterminated ~>>_a=>is 
+===try!~"a\\"
+-?? 42"abc" 
+{"a\"b",..< &>-func $|		as?varas? ^ var/$||= 42 == "unterminated>>%try?var 
+>**==>
+foo_bar // comment 		@Type#//c} 12abfuncé
+
+// comment /42 ..< -'42 foo_bar_a<<= 0x1F)
+日本??=try!== * %||= ||=try? { _a ..<
+3.14===tryx'
+.as||=<=> !==		 % 1.2.3||=		||= as<<=
+<=>
+1 @ try->"unterminated) "" "**= $
+>>> .. ..<! **=1."unterminated1.2.3...<  [ "unterminated "" "<=> >>>
+?1 é>> is]\ ?
+  	  try!1 as! **=- 12ab٣~
+func let;#// comment;3.141 is  naïve   	 ->@Type
+
+is> !==}>>
+!&&="abc"\/ let		
+let$0 _a * )+ [? &&= 
+asx42 @func.5 as!==3.14' { //c
+let
+x  	 # . 
+|1as?try!}
+/		1tryx"a\"b" // comment <<=is ...==
+#! => 
++
+tryxx!== ??=??=! 0x1F<<=.. )[ foo_bar..< +
+? #func! &&="a\"b"`   	  
+=="unterminated[. "a\"b" ,_a #&&= ; _a
+
+"a\"b".50x1Fé% \ =>3.14٣ 3.14 **=\
+12ab/"é日"1.2.3 
+  	 '[>>var{ "" "#     "é日"
+try!
+// comment 日本 1??='1.2.3=>1. '.
+} >var ; !==@$ ==( <=>%
+as!=>try? => asx_a<<=42 <=>... 
+
+;"a\\"
+let`-_a"é日"
+=é>>>func(
+try!==>x is
+>>>**=||=is1. $! #@tryx } 
+?try!>>> // comment!==||= +.5>\]
+; 3.14^ => try `? ""as![ ^ "" ">>>try! ==
+x 
+)&&=
+
+let ] ... // comment +||=		&->0x1Fvar"unterminated->(
+12ab @Type ===1 3.14 !== ٣!== =
+		"" "===...... ===
+try!""try! ;_aas?"" !<<=]=) 
+[
+٣é {try "é日"日本 ? ^**=tryx"unterminated ..<.5` 
+		asx. ??=foo_bar < 		 
+| 0x1F ?? @Type//c< "é日" 		=>
+"a\\"12ab"" "+ as as! 
+===. try 日本as!"a\\" "a\"b" 42try!)}0x1F 12ab
+ =>日本{   -> )
+"" "??* {1%||=<<= 1
+let..<=> ""| >>try
+<<=  
+&&=1.2.3===!== x |||="abc" x asx === // comment try!$0
+@ ! @   as?1.2.3 try! === 
+naïve 42 ||= as ٣"unterminated->"a\"b"$0 "a\\"try
+  	 "a\\" "" ")#12ab12ab foo_bar==<=> 
+42 |"unterminated/# 12ab42-> try!    * 
+; !== #...\"é日""a\\"	 >>>   +
+é =
+`' ~~as?  %foo_bar	.5 "é日"1.
+
+"é日" "a\"b"#**==||= &=> "". [{1
+! ;$0 [?// comment ]
+.5}..<1.)
+12ab try' ->foo_bar 	"" "??].5 @Type
+  	 func~[-[ ^"abc" `   
+@Type' as!_a@! var !==日本 ..
+
+`"" " ^$try! naïve$0 
+('\~!==!> ; 
+..42>>>1
+try! asx 0x1F"abc"try?""
+٣ let??=' as<<= 
+"" ") ??tryx|**=  <=> "a\"b" *'=== "é日" var	? ~ #.. =>日本 -
+let [ 12ab` "a\\"_a).->}trynaïve
+$0{<<= 
+"abc"!->#12ab   12ab func		//c "abc". 日本
+// comment
+?` try?func42<=>
+$// comment ٣ 
+}&&=٣ try!"é日"x		  .(?is*
+_a% 3.14
+>>>1??= #$0naïve
+>>> <=>;func**=..<asx$0x 
+> .5 )x ..512ab !asx
+??=?<<=(// comment=		foo_bar ...{ )
+  	  %0x1F< as!  	  "a\"b" ~!
+foo_bar	12ab"abc"0x1F"unterminated let		 |-
+٣"é日"٣||=let
+\tryx٣==/ 
+,**===   @ ~1.2.3$ 1 ..<
+_a<=>naïve""| //cé is??   1.// comment "a\"b"
+foo_bar
+funcétry //c.5==='||=/ ! >>~
+
++try? "a\"b" /try ٣tryx //c "é日"42\"a\"b"
+, 		   	 ,$}"unterminated{naïve>try?0x1F
+0x1F
+{. 1.2.3&&=\ >functryx 
+
+
+\`func
+""  	  
+>>~try)
+asx@Type ""..<
+let' 
+
++ 0x1F'3.14 try"unterminated,	=>12ab 42@Type *
+??$0[ let )	 **=try日本* ( ??=
+{}
+as? '>try? ( ?? is~3.14		is } 
+func+0x1F		 try日本  , "abc" ===as! let
+is=>42 é@. >>> 
+& func 0x1F-...>><=>
+<=>)٣as?=>x<<= !#
+...^/ is 
+1.2.3 _a٣日本 \~@Type   	 $0try!& "" "
+` >foo_bar?	~ [ .5
+) <<=as$1.2.3// comment<`٣
+# let  try<<= ["é日"=>"a\\";		 "é日" as!
+0x1F "a\\"^ //c
+->foo_bar
+$=== <=> % as! ) 1.foo_bar ->naïveas?`
+日本**=
+// comment [! 1.<<="a\\"//c try! ]// comment[... @日本
+-) as[&&=asx <=>@Type ' "a\\", @Type)try!}// comment  ..<??日本#日本é ~tryx.. _a..
+!==try!_a foo_bar"a\\"var==||=!== 
+é{foo_bar42, > <
+as? @Typetryx		&
+??//c??= [ @Type 42 !==
+>>>**= // comment== "" " <<={% +&/
+try?/tryxasx &&=!==>٣< (
+`) ..<var"é日"try日本->% =>
+
+]~	<=>_atry! asx..<		& 
+
+/@Type<tryx>> ===1. ٣٣		=&	
+===let}	 / 
+= var >"a\"b" 1. funcas>>naïve( [  naïve"a\\"as?===>>@ funcnaïve"unterminated+ ^}.5 ~ < 
+??="a\\" **==foo_bar ||=try ] ^} ...//c => !
+/ **=   	 ..<// comment 1.2.3
+var  		   }// comment..< 
+` >>> ??=
+( < !==42{1try? as?1.2.3$0try? ""1. 
+@{ 	 0x1Ftry??= ...`日本 as? 		]_a	
+func>> === x % // comment.5 0x1F#//c )  	  ..<=>1.2.3 
+]42(var?? === as!"unterminated 1.{
+0x1F !==1,éas?@Type as!#|é٣ ??
+as?;-/)as! 
+?? >>> "a\\"/
+42&[$0 .5foo_bartry! { 
+<=>/ !==//c日本"a\\" ,
+* +let let //c**= try<<= #..
+ !== %"" ==&- "a\\" "abc"//c;1.2.3 ||= 
+>>é; éas .
+]日本.../	=> \1.2.3 
+12ab<#1.|_a > \0x1F] -
+..<??= ...
+try+// comment
+->   > ~42日本 3.14 0x1F "abc" 1.   "abc"{naïve< 
+??as?as?    asxx٣0x1F é; naïve"" >=>
+=> $!
+^;+ try!func "" " <
+^func &"unterminated0x1F, asx \ $foo_bar-> 
+>>>$0 #; "a\\"|as?! foo_bar??{!- 
+@Type"abc" as!  	  ..<@Type ... &&=<<= ->?)
+try?; >> !=={ tryxx as! var "a\"b"
+**=var.
+=>||="a\"b" _a .tryx -> .."a\"b" ??=#{ '
+1_a.**=[x$astry# _a..<)->
+12ab.. 42"" | .5
+= | }"a\"b"tryx >+??===try! var// comment 
+#as1.2.3  	  ?			 > _aistry?+x>
+try!"a\\"+<
+٣= @Type =>try?as=<=>  * _a??=var 
+**= // comment <=>1.   var
+&&= (>=>*\ 
+"" " ^
+$0<=>$0 
+"unterminated??٣x0x1F[..<as!"" " 0x1F
+try<<===12ab@ asx => ->+ [
+~ _a
+% try **=!== tryx"a\"b" ...		 "a\"b" 
+**= 1.٣
+||= !_a|<<=)// comment ||= is ->as?! trylet
+* ||== "a\\"// comment `==as!asx$0func`..< 
+!==<=> \ {_a ==="abc"naïve**= é<<=try 
+> !==try?&&=**=  ,try"a\"b"
+=== 	==="abc"   _a 1.2.3 ٣?
+		 } is é...as?"unterminated.5 #> `%>>> 
+??
+asxfoo_bar}tryx.51.-*"unterminated
+[ #&'٣ | ->0x1F#
+;|>> \)
+|func>> = ??... var0x1F\  $ >> '' 
+// comment!=="abc" asx &3.14let**=' 
+??= "é日"... .0x1F éé"unterminated
+] <<=.42{(->
+asx / !var\==1#(	 ;try?
+ <<= try .??=1. ` ==日本varfunc "a\\" 
++.! as// comment/...<<=& ,asx%
+<=> ??=   	  // commentasx 1.asx+is} 0x1F
+		 <<====is"a\\"naïve ..5)>>>==naïve "é日"
+) "a\\"[<=>as!;\ **=٣ try!
+/tryas? letlet		3.14$ 
+\ é>!== <<=/"é日" ] ""??* ?try?3.14
+===<=>==
+try!$0"a\"b"as!éas||=[\as!//c asx"a\"b""abc" | 	٣ { 3.14_a3.14 
+ 	@Type->naïve % ||=??=// comment===tryx 
+~٣  	 @1.2.3..< 
+"unterminatedasx >>>;(?= 	 
+
+try?\"unterminated <"é日" =+ ===// comment??!
+
+}**=//c% as!;&&= $**= -  # -try
+,1.1} ??= 		é1 
+"a\\"as?3.14//c { 
+#'"é日" &^.. ٣"a\\"??=foo_bar!==-}
+,=var ٣
+.5??1.2.3 ===.5
+12ab||= 1# _a 
+  ;@Type ..! func)= ""let "a\\"=
+!,&&=... ; { "" //c==1 
+' // comment !== asx **=~ -> as?//c..<"" "
+"unterminatedis12ab <<=let <~
+/=>42..< ??=[ ;;   	  ]"unterminated 
+
+1<=>
+||=3.14 ~naïve $.5..<   "a\"b" ||=
+
+naïve ..<0x1F  
+// commentfunc\ ===$0+ 
+\%==/ ? ?? 3.14		
+
+"a\\"@// comment#??= &^<<= 
+\		 functry[<<=->...~/ -> "é日" )   
+<12ab~ 
+=
+]x**=
+x"abc" 3.14**=
+日本try$0 as!] ^[ as 
+
+=%?<<=&  3.14
+% 1
+!==~<=> 
+=> `٣ >>"é日"é#as!&&=
+1.2.3
+asx > {x#   )
+			try!1"abc"== x -> foo_bar		0x1F
+
+*] 
+??||= ..1,..-
+42 is_atryé//c => |foo_bar	
+..42 @Type# try?
++..<|is ; "a\\" 		 $||="é日"' as 1tryx
+as		]+ &&=1.2.3٣٣=naïve 
+asx/.asxfoo_bar	 ... 
+foo_bar ===func $0 var try?=>&&=$0 *
+0x1F42??@>>> ""/??=0x1F ? !== var..<
+0x1F"a\"b">.5"a\\" .51var, ^
++ "a\\"===??= $0 as!é.. //c.5=> => 
+asx..!==!== foo_barfoo_bar3.14;isvar is42 "é日"/
+#try! <=>3.14naïve< ""12ab <'
+!== ??= let= try!3.14_a ->
+"é日"
+		 ..
+~try!==3.14<<= #"abc"#@é 
+??= )( => ? "unterminated< >
+..] $0<<=# =="abc"! <<= * var
+'>>>==;
+??= 0x1F{   	  12ab1.. ["a\\" "unterminated->isé .. &&=٣==as? let as? }
+& 1<=>	 &&=!  ( é ) 
+=== as! let٣let 1<=>~0x1Fnaïve
+,
+\... @Typelet"a\\"
+| )
+/&&=is// comment as! funcvar!==???= .....?<=> 
+!1>> <=>-!**=~
+<<=/%*#&&=~==='
+..??= ...1.2.3||= } 
+is@!->	3.140x1F let
+12ab .5as\ ->   	 asisas~.. 
+letasasx func3.14.. -} 42// comment
+	 
+x_a"a\\" "é日" @]`func )"a\\" try **=
+1.  ~
+tryx
+naïve try?try?42foo_bar ||=try!//c^ 	>>>"abc"..< 
+-// commentas12ab &&=varlet
+٣//c_a#try?\let-<<=' foo_bar<=>
+0x1F ..1.2.3 as!   { ] "a\\"é"a\"b" ) &&="a\\"(
+&@Type' try? ..<//c$0"" 1.2.31.~**=||= |! `
+@Typeastry# ;)..... >>>  	 
+& )try?0x1F*&&=0x1F"a\"b" try// comment *'// comment1.
+!==  	   &==as!( / try!
+	~!==is try?
+/"" " try?@lettryx !== as?
+===42 1.2.3 ?? 3.141 >>>**=
+1_a&&=- 日本foo_bar<>> 		->?`<{|  try!!x @ "" "foo_bar % 
+!"a\\"日本 |"abc" >
+xas?.5 ..@let//c 1
+é@Type .x \$
+<3.14 
+""% &&=<<= <<= <1.
+foo_bar 
+let~?%#"" //c>> "abc""a\"b"naïve >>>try! ( 
+x ... ;+1.2.3 1 ?{
+?`) 
+\$0x1F~ **=!==try? astry? % .5
+&asx }é@Typefoo_bar` ??="a\\"   	 
+-"" "
+//c < ||=  ~3.14  	  
+"unterminated	 1.2.3 >[&try ===1>><<=42&&=
+//c1<=>}=>>日本try?   .. ==	==$ 
+
+foo_bar
+try? 
+é > , 
+tryxtry?1[$0// comment// comment é -
+..	 $0let... \
+"unterminated}' >>> ..<"a\"b""a\\"\1.x
+_a === "a\"b"foo_barnaïve! 3.14& as<
+~naïve#// commenttryx@Type
+1.2.3 ==~vartry?(// comment0x1F 12ab  	  "" " 
+)\/^===~ as!func=== 日本<=>
+^} [<=>)@"unterminatedlet #%/ 42
+
+.5 ` <<="unterminated func||= ??=/ [ + _a 
+var
+[42. ||=
+- = 	@//c*as! /| =>日本>>>as
+>>.5 \ =>12ab&1.2.3 ..<let]		<<=*
+!;== =/ &&===42"a\"b"@Type"unterminated"unterminated `
+_atry!asx`|as!try!)_a"" .5func;		
+"" " - <3.14||= #  ""
+try?"unterminated /is 12ab"é日"$\ ...] 1.2.3 
+%,1
+as!12ab
+||=>>"é日".. ..."é日" ->;
+>>3.14as?**=*日本} 
+  	  `..<;= ^
+\ 
+#~ tryx $varas
+= %"" =  @Type ===
+<=>
+  >>><<=?$=== \===>-
++xfoo_bar) ..%
+naïve..=> ` <<=    ===as 
+"unterminated3.14|"abc"] "abc"as===var func
+{<
+%42 	(
+
+func"é日"+asx$#=> "a\"b" ,
+??as??3.14'`func ! .. *٣{is1.
+>>>let try? 1< _a==asx`
+42...*&'as[
++ "unterminated1-> 
+
+"a\\" == 1.//ctryx...
+var $0**=   	 as>as? "unterminated "unterminated&&=
+\1.->"a\\"tryasx tryx12ab foo_bar	...== "é日"..<٣ ; 
+1/.. as! \
+٣func$0let**=||= as==! "a\\""abc"^, 
+٣? &$0` ~"" " _a ..<>>>try!x
+>> + ~"a\\"| 
+tryx
+é 12ab42 ..< "a\"b""a\"b"is&&=var
+.5 +foo_bar
+"unterminatedtry>>"" " => ..< var===(<<=  ,tryx
+= funcasx"" "a\"b"日本/ as&&= _a//cis?? 
+
+> \ as!naïve12ab} $   	 as!42 "abc"as!as?
+"é日"//c.. 
+||=' !==
+.5&- $as! tryx? 
+[ as!^'  	  42;try== ->??=| as?
+&;3.14@Type naïve$0==		 tryxé* ~	? 
+"abc" |"é日"as! / func  )
+let $0//c=>   ..<#'x
+/&_a | énaïve
+== 
+\ try? éx$%~.$0try? $.5 é  #..==||= ... ->11 ٣
+""try =>"" foo_bar٣|is ^"é日" foo_bar as? tryx 
+0x1F..."abc" >>as?
+tryx$0]	?? $0=>-> 1.2.3*#` ||= ;}日本 
+@ 
+..<
+1.2.3 .5= var3.14 as?"unterminated ? - ,1as?12ab + 
+"abc"=>>3.14.. |     	 ==""
+
+as!<naïve <<=1.   	  _a
+??= asx
+try!1.let 
+try?1. tryx    {->  	 
+let-> "a\"b"|é
+??=<let٣
+>>>||=
+-> try?[+|asx> 
+'>>  	 => +٣?let
+"unterminated ^"abc"! <=> 0x1F"é日" =3.14 "a\"b"as? <=> =??='asx 
+日本1
++as?=> ..< %42 >> ...42as? var | 
+>>>naïveas>is=as>>> !var try?as   	 // comment 
+1.| `	->func 1. .5=1.2.3 foo_bar// comment""0x1F 
+$ 日本try! 1.2.3..<12ab] $ ->
+.5]\ 
+//cvar==
+^[..<naïve  
+٣ =>) !\func  foo_bar~ 
+var 1`0x1F3.14
+??="" "try?""/
+/->_a"" //c' "unterminatedx^""??=@??=
+1=>tryx?var).5-
+_a<=>naïve日本is!!==
+<=>
+@"a\\" is ===>>>~ -> <<=% ===_a 
+..is ) "unterminated1."a\\" 
+&&=../{42try! ||="a\\""a\"b" tryx >>>
+...^   ; 
+.
+try? 	""*# "é日" ||= ^@Type) 
+>>> 3.141.2.3&\as?@1 / #!
+		varfoo_bar1 
+"a\"b"@Type]$"a\"b"%as? ^? let 
+??= 3.14 #| ||=??=.. >"" as? ^é 
+' ..<<=   var%funcvar
+try \<"a\\" / 	 var <<="" " // comment 0x1F.. 
+|("é日"#|		 ""3.14 x%//cis`**=.5  	  ~日本 
+!($0 
+try42 $0
+.$..3.14 // comment\ >foo_bar==$ asx |
+.5>>>$   	 %..<..[!==
+(  "a\"b"try1
+*..<
+-tryx   
+0x1Ftryx~٣tryx"a\\")   ~
+
+xvar !==日本[foo_bar é
+->3.14 @Type{naïve"a\\"
+let&&=
+/ + 
+try! "é日" **==x42 3.14@ // comment `..<func_a
+"" " ~[//c  	 .112ab"abc"//c,_a "a\\" 
+"a\"b" } "a\\"+
+42 -> x#$0let
+   1..5as!]  	  @,$0 3.14 \-> <<= as!
+-> 1.2.3"unterminated  //c & try)3.14
+% *.. as! var
+3.14 >>> naïve3.14 & ??= %
+<!??='..< 
+asx===is ==
+		 ??= (||= **=
+x >>  3.141.2.30x1F日本,< (
+?
+1 ->]funcasx 
+@ ; 
+^\12ab ? ; 12ab=@try?]<=>
+is@Type !&&= {'
+`/12ab tryx 日本 
+
+
+=**= ?// comment as?日本 <=>@Type 
+! ..<&&= 42 ==@ \
+~ ` as! ' ..<asx&&==== !
+]!== * [1. ==="é日" =>
+{&&=?? ># .}
+< éxtryx \12ab...... is ..< //c// comment423.14
+/=* >> %\var1.2.3
+(;?{ try!==//c>>>.....<  1|as3.14[ "é日" 
+===#asx..< foo_bar**=@Type"a\\"| <<=try? =>naïveas
+!=="" <<=??`^=> tryx"" "/
+)as! 
+
+; !tryx _a<=>..< ,foo_bar) try!\٣ "unterminated日本is 
+12ab ..<   is
+let{( ..// comment 
+é let>>> try? 日本
+..<=> >> <<={... &&=.5 
+|$
+"unterminated <=> $as?'"unterminated*"" ..|"unterminated12ab"" 3.14
+...**=@_a }as ) ??="" "1.2.3 "a\\"]""as!
+>42+ &&=#		try 3.14		日本is @=> 
+\42
+>># ?? isasx .>~ \(// comment $ 
+-><<= // comment= $`)^ é "a\"b"%<<= ] + 1.2.3 
+;3.14try 	   /== =func
+.. ;<=>var**=( try
+||=foo_bar naïvefoo_bar +é ? ?? 
+
+<日本@Type let!=="" as;.. try ;
+1.func+->?? 
+foo_bar let ٣"a\"b">\ 42func %??=&&=]tryx 
+"é日" 
+
+0x1Fasx* **=\<=>( ?%
+
+"abc" naïve 
+$0/ ??/	...@{/\astry! 
+(
+'-funcvar42 3.14
+let ??// comment> === 
+.._a naïveis\('^
+1."é日"0x1F; ,|- // comment as? .		 >>>   
+1.2.3naïve [ try? é^"é日"
+...[\
+&&=**=
+"a\\" -~1.func as!<func>>0x1F"a\"b"`>try 
+1.2.3 1.??=1"a\"b"== 
+//c -// comment }日本'@ 
+.5
+
+#$0func3.14& var {)! as? 		 +1`
+#$"é日" !== }^ var
+!=="a\\" 0x1F..<foo_bar `= .>>"abc"|try"a\"b"**=
+1日本 };x
+  	 0x1F!==
+12ab=tryx@ 
+$&??=
+"a\\"??}
+>>> &&=var *- 3.14as!
+x é try ( >>>-as???=, 1( =<<= @ 
+"" "<asx>> 
+-"unterminatednaïvenaïve <<=asx||= 1. /1.2.3try"a\\" var1.2.3
+~ !é42$..< 42\x("a\"b""a\"b"isfoo_bar{[   	 > @Type}> ... #/ "unterminated ,
+é٣,* > -?lettryx
+->42try?  	 try42// comment||=
+// comment 42 try??<=>^ 
+- é"unterminatedx>>try? é..<=> 1.2.3 
+&&=( # "unterminated==42  	    [foo_bar"unterminated as*!==->+[`_aas!>>> +|<<=
+
+٣ **==is1 &
++**= 		|$//c =>)asx//c 
+<=><// comment<=>; ;-> 
+>>-@ >>
+]=>===٣...   naïve!==1. <' !??= 
+$0~tryx 
+1 @Type | as?@ 3.14` ??<=>12ab1\
+as!~?asx=& "unterminated ??=1.2.3 + try 1.日本&/func] \'||=} 
+-> var~} 
+
+/3.14 ] tryx..< >> \%... asxtryx //c]
+.5 <try? "a\\" asx/ ||=>>^ try!
+&&= $"a\\" ^>>>as<[  	 ' é }
+  	 -1.	// comment ~		@Type"unterminated??*12ab - >>
+
+func/<<= é {"unterminated1.42 !==
+	 ..functry! ٣ 日本%..< "a\"b"# 
+{&&= let$0; 
+1.2.3| 日本var= `12ab naïve// comment "abc"}[func foo_bar
+. @ | ! <=>
+try!??"a\"b" try???=0x1F ^ $日本 <<==== x
+-> 42 
+// comment"unterminated}日本**=>>
+x \ 1
+( $0 ~as! ??=||=	1. foo_bar
+
+' +let '日本   	   /// comment| @Type / is
+"" ??=>>$0as!_a#
+421.===? /.5 asx }=>===; 1.2.3
+let<<= "é日"try1..as??<<=-&&=try?!
+, 日本 
+**= 	(1.2.3,!==12ab` _a=> x-1.?~ =>naïve 1~(日本42naïve1-> 
+
+< ..
+3.14 is ...| } ->42try?
+""&&= >>> =>'. 
+  @Type>			tryx""<
+!??(
+foo_baras?   日本 	.5 let 1.2.3 //c+ \ 
+~varletfunc-  	 as! 
+as===&&=>"abc"' &&= !==^ as!%<=>try! >> 
+] "a\"b"				"a\\"/
++try?! ??@' 3.14 "" " @&
+*<<= ??..<**= ٣{ 0x1F. naïve "" " ??1.2.3 
+as//c( 1 
+1.  	  >> ' _a\"unterminated_a;as1"é日" =====
+\ ..] var 0x1F?is1. ]=! 3.14as 
+日本**=""..12ab3.14-> <=>"" ""abc"&&= ;1.
+
+.5 ..""??=
+"abc""a\"b"3.14
+isas "" "1}-
+)42 try?{=>&&= !==
+=..12ab@"abc" @日本
+$ { `>>>
+[	as?  ..===naïve {**= /évar1. var
+<<~<- as??*!==<=> ..<;foo_bar ` 
+> &xnaïve-..$0 isas?	
+**=->"" 1.as||=as! ===
+"a\\" as!as? ?=== ) as? as@Typevarfunc٣& try?%<=> "a\"b" asx }12ab ]||==> 1.
+٣// comment
+&é**= >		as?@ func ?? "" "		
++->
+"a\"b"1.2.33.14 try is( 1.
+x    ] 		 1.2.3 é 
+...<=>.1.
+]>>> <=>-^ as  \ \=> @Type 
+>> //cas!( try!?日本( ~
+?? |(!/as!>->=3.14
+as?try?* **=<<=<<= var..."a\\"
+foo_bar3.14!== let^??= 
+12ab ` *(/ /??+.. "unterminated/42 >>;
+
+!== #% 1. }~?//c#"" " "abc" 日本 foo_bar
+@Type	1. (1 
+%**=  ""	% _a 
+) $ "abc"|"unterminated& "a\"b" @ // comment;   1 
+as! "a\\" ]@as?   	  "é日"
+$0//c=== ..<try!   	 -> ||=as?!  
+
+日本42
+=
+"abc"?>> asx
+is 12ab42!	"a\"b";} ?? _a 
+
+42""try =="" "٣ 
+=日本  ->!== func12ab
+٣3.14 $0x1F "" " / 日本 === </>> 
+?
+is let
+< !==!"" "+ funcas٣
+->func1.2.3(@Type1. tryx@Type ||=1.
+=asxlet>>> | ?&&= var==??=`]'
+	 @Type ===
+try? 
+try?? 42 
+"abc"?@Type ? '->(&  	 =>,+ $
+1.2.3->try! >
+> 1.2.3; ?.. "abc" ! ]|func  **=
+,'&&=?.. < .._a42// comment "a\\" "é日"tryx
+tryx
+
+..try? 
+"é日"asxlet {
+!// comment
+42-1.2.3	日本 ] -]??42 <=><<=~\
+??=0x1Fvar$var1.é tryx??)try 1.2.3 as!let 
+	~??   	   func 
+"" " \ -@1 &&=<=>}asx<=>=== !== 
+} ====> "a\"b" "é日"> 
+.5 日本٣
+"unterminated"é日""abc"_a =
+>>>= as?! 
+try)<<=$**=   	=== foo_bar => "é日"` 
+.  /1'=>+\|42"unterminated* // comment...
+as!-?"a\"b" #"a\"b"try! \|
+$0"abc" try    func ! ] // commentfuncvar 
+1 -((as?=||= } let  
+"a\"b" naïve1.2.3 var
+**=??é.5 1.2.3is>>>"a\"b" %
+/ `..!<=>as! <"a\\"( \'   1.2.3 
+??
+(let"a\"b" ?$0@Type+ ` foo_bar+<<=
+*&&= 
+| -> #{ ?<=>as!=,func as?
+$0 -  <<=} ' !
+~-
+<=>   _a <<=3.14&&====$    .. . "abc" ()
+as? |"a\"b"as? &&=@as ^ ;?
+?? asx1||=$0 }as?日本 _anaïve <<=
+>>>{ "é日"?? @Type  
+
+( let		 ~ ..@Type"a\"b"> try? 
+12ab 
++ "a\"b"x .5naïve 
+'<} $ '1 日本 "unterminated ٣ ({
+>>> 		.5 ...| >		 x? >>>{ **= <=>é var+ =try
+42..<12ab'**=<<= ' ??=??is.5@
+x$0< ` .var@Type ' foo_bar
+
+as?->1..<== é % //c \ <<= 
+&..<]> 
+"" " let]"abc" ;
+try!)1. ||= - 0x1F `func, 
+<<=> asx"abc"  let ^/% 1.<<=== , #  	  [ 1-try   		
+$0, _a}0x1F.5as
+&&=^ \?&&=try"abc"||= 
+\ 1..<naïve;asx% "a\\" 
+; let
+{ "a\"b"42, > # //ctry!   ] "a\"b"foo_bar/
+  [$ "é日"|% 
+		/) let  	  ..< | !tryx1.2.3{`$
+??=@
+"abc" ??=- as?$0 as! *.5<=>[ as!/>
+[3.14 `# 日本"" " try?"unterminated ->é let.. 
+naïve1.2.3 -!==> "abc"
+` é! 0x1F$ 
+  	 === as..>
+"a\\" -^12ab??=.. try!"unterminated~ var
+==!=="a\"b"-=> 
+??...~ <=>===1.tryxtry! 12ab..< #...} 
+%.naïve( 42 as func ..} asx'('
+$& "é日" ..|try 
+"a\\"||=
+)"a\"b"as?<<=var **=func letfunc/
+..<@Type..<		 .512ab1.12ab var ...<=>??   
+@Type>>$== é / ٣ try?; $0$0as!
+"abc","a\\"&&=let<<= // comment٣..
+é-"" 4212ab! 
+( ===->
+as
+"" "} ,é 日本_a1. ""*]"" "* ,
+	[??= "abc"try * 		&&=-> .. 
+..<
+"a\"b" !==@<<= @Typefunc //c.5
+x; # "a\\"try!- [ {
+->, x	 @` .5"" ")"a\"b"&&= 
+| asx; 3.14as
+%, 1.+* 
+   ?? asx42(func.5\ 
+is is !foo_bar* { var.5	
+||= **= ( try?as!$ "abc"asx
+try
+// comment3.14 @Type *?? "unterminated//c>>"" " 
+>>>#
+try?"unterminated+   	 (===\->
+"a\"b" 日本日本 naïve?1//foo_bar)..< "a\\"' .5 3.14 var$0 >> try?=
+
+>42"a\\"'%>||= ?? ) 	1.2.3
+as?)* 0x1F1.var 
+as"" @Type=>||=\ $0 ??=#$ try!
+@Type 
+??= try==]3.14
+??="unterminated 3.14
+-"a\"b"
+as"unterminated>>..& asx`"a\"b"$0 '
+
+===>>)"" ">>
+- is^<=> &?\ @ ??1"" "//c=foo_bar日本 "a\\" 		// comment
+>>> 1&&='.5 ; 
+try 1.2.3 // comment 	   - 3.14 naïvetry try!
+let. |"abc"  	  
+as!> <   	 (0x1F@@Typelet1_a>let
+42 		 %1.2.3 (   $0] 日本functry?<<= as
+||= // comment**= _a , var ) x{ "unterminated"a\"b"??= 42#^ $ 
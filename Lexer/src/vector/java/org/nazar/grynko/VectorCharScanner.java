@@ -0,0 +1,69 @@
+package org.nazar.grynko;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// Compares a vector of chars at a time after a short scalar prefix, needs jdk.incubator.vector in the boot layer
+final class VectorCharScanner extends CharScanner {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int PREFIX = 16;
+
+    private final char[] chars;
+    private final int base;
+
+    VectorCharScanner(char[] chars, int base) {
+        this.chars = chars;
+        this.base = base;
+    }
+
+    @Override
+    public int indexOf(int from, int to, char c) {
+        int i = base + from, end = base + to;
+        for (int prefix = Math.min(i + PREFIX, end); i < prefix; i++) {
+            if (chars[i] == c) return i - base;
+        }
+        for (; i + LANES <= end; i += LANES) {
+            if (ShortVector.fromCharArray(SPECIES, chars, i).eq((short) c).anyTrue()) break;
+        }
+        for (; i < end; i++) {
+            if (chars[i] == c) return i - base;
+        }
+        return to;
+    }
+
+    @Override
+    public int indexOf(int from, int to, char c1, char c2) {
+        int i = base + from, end = base + to;
+        for (int prefix = Math.min(i + PREFIX, end); i < prefix; i++) {
+            var c = chars[i];
+            if (c == c1 || c == c2) return i - base;
+        }
+        for (; i + LANES <= end; i += LANES) {
+            var vector = ShortVector.fromCharArray(SPECIES, chars, i);
+            if (vector.eq((short) c1).or(vector.eq((short) c2)).anyTrue()) break;
+        }
+        for (; i < end; i++) {
+            var c = chars[i];
+            if (c == c1 || c == c2) return i - base;
+        }
+        return to;
+    }
+
+    @Override
+    public int skip(int from, int to, char c) {
+        int i = base + from, end = base + to;
+        for (int prefix = Math.min(i + PREFIX, end); i < prefix; i++) {
+            if (chars[i] != c) return i - base;
+        }
+        for (; i + LANES <= end; i += LANES) {
+            if (!ShortVector.fromCharArray(SPECIES, chars, i).eq((short) c).allTrue()) break;
+        }
+        for (; i < end; i++) {
+            if (chars[i] != c) return i - base;
+        }
+        return to;
+    }
+
+}
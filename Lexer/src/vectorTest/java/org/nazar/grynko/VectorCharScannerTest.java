@@ -0,0 +1,59 @@
+package org.nazar.grynko;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VectorCharScannerTest {
+
+    // Long enough to cover the scalar prefix, a few full vectors and a tail on any lane count
+    private static final int MAX_LENGTH = 100;
+
+    @Test
+    void singleMatchAgreesWithScalar() {
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            for (int match = -1; match < length; match++) {
+                var chars = new char[length];
+                Arrays.fill(chars, ' ');
+                if (match >= 0) {
+                    chars[match] = '"';
+                }
+
+                compare(chars);
+            }
+        }
+    }
+
+    @Test
+    void randomRangesAgreeWithScalar() {
+        var random = new Random(25);
+        var alphabet = "  \t*/\"\\a".toCharArray();
+
+        for (int n = 0; n < 200; n++) {
+            var chars = new char[random.nextInt(MAX_LENGTH * 3)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = random.nextInt(8) == 0 ? alphabet[random.nextInt(alphabet.length)] : ' ';
+            }
+
+            compare(chars);
+        }
+    }
+
+    // Every range [from, to) of the array, so matches fall on each side of the prefix and lane boundaries
+    private static void compare(char[] chars) {
+        var scalar = CharScanner.scalar(chars);
+        var vector = CharScanner.vector(chars);
+
+        for (int from = 0; from <= chars.length; from++) {
+            for (int to = from; to <= chars.length; to++) {
+                assertEquals(scalar.indexOf(from, to, '"'), vector.indexOf(from, to, '"'));
+                assertEquals(scalar.indexOf(from, to, '"', '\\'), vector.indexOf(from, to, '"', '\\'));
+                assertEquals(scalar.skip(from, to, ' '), vector.skip(from, to, ' '));
+            }
+        }
+    }
+
+}